@@ -0,0 +1,95 @@
+package org.reflections.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reflections.ReflectionUtils;
+import org.reflections.Reflections;
+import org.reflections.SyntheticClasspath;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+/** query latency over a scanned synthetic jar: transitive {@code SubTypes.of}, {@code TypesAnnotated.with}, {@code asClass} resolution and {@code getAllMethods} */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QueryBenchmark {
+
+    @Param({"1000", "10000"})
+    public int classes;
+
+    private SyntheticClasspath classpath;
+    private Reflections reflections;
+    private URLClassLoader classLoader;
+    private String leafParent;
+    private Class<?> leafClass;
+
+    @Setup
+    public void setup() throws Exception {
+        classpath = SyntheticJar.classpath(classes);
+        File jar = SyntheticJar.generate(classpath);
+        classLoader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, getClass().getClassLoader());
+        reflections = new Reflections(new ConfigurationBuilder()
+            .addUrls(jar.toURI().toURL())
+            .addClassLoaders(classLoader)
+            .setScanners(Scanners.values()));
+        leafParent = classpath.className(classpath.parent(classes - 1));
+        leafClass = classLoader.loadClass(classpath.className(classes - 1));
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        classLoader.close();
+    }
+
+    /** all transitive sub types of the hierarchy root */
+    @Benchmark
+    public Set<String> subTypesOfRoot() {
+        return reflections.get(SubTypes.of(classpath.className(0)));
+    }
+
+    /** direct sub types of a parent of leaves */
+    @Benchmark
+    public Set<String> subTypesOfLeafParent() {
+        return reflections.get(SubTypes.of(leafParent));
+    }
+
+    @Benchmark
+    public Set<String> typesAnnotatedWith() {
+        return reflections.get(TypesAnnotated.with(classpath.annotationName(0)));
+    }
+
+    /** resolving the transitive sub types of a leaf parent into classes */
+    @Benchmark
+    public Set<Class<?>> asClass() {
+        return reflections.get(SubTypes.of(leafParent).asClass(classLoader));
+    }
+
+    /** all methods of a leaf class, including its super types */
+    @Benchmark
+    public Set<Method> getAllMethods() {
+        return ReflectionUtils.getAllMethods(leafClass);
+    }
+}
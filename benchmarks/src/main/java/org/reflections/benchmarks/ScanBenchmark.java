@@ -0,0 +1,52 @@
+package org.reflections.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/** {@code Reflections.scan()} over a synthetic jar */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ScanBenchmark {
+
+    @Param({"1000", "10000"})
+    public int classes;
+
+    /** scan only SubTypes and TypesAnnotated (header only parsing), or all standard scanners */
+    @Param({"false", "true"})
+    public boolean allScanners;
+
+    private ConfigurationBuilder configuration;
+
+    @Setup
+    public void setup() throws Exception {
+        File jar = SyntheticJar.generate(SyntheticJar.classpath(classes));
+        configuration = new ConfigurationBuilder()
+            .addUrls(jar.toURI().toURL())
+            .setScanners(allScanners ? Scanners.values() : new Scanners[]{Scanners.SubTypes, Scanners.TypesAnnotated})
+            .setExpandSuperTypes(false);
+    }
+
+    @Benchmark
+    public Reflections scan() {
+        return new Reflections(configuration);
+    }
+}
@@ -0,0 +1,69 @@
+package org.reflections.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reflections.Reflections;
+import org.reflections.scanners.Scanners;
+import org.reflections.serializers.JsonSerializer;
+import org.reflections.serializers.Serializer;
+import org.reflections.serializers.XmlSerializer;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/** {@code XmlSerializer} and {@code JsonSerializer} read and write of a scanned synthetic jar store */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int classes;
+
+    @Param({"xml", "json"})
+    public String format;
+
+    private Reflections reflections;
+    private Serializer serializer;
+    private File file;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws Exception {
+        File jar = SyntheticJar.generate(SyntheticJar.classpath(classes));
+        reflections = new Reflections(new ConfigurationBuilder()
+            .addUrls(jar.toURI().toURL())
+            .setScanners(Scanners.values())
+            .setExpandSuperTypes(false));
+        serializer = format.equals("xml") ? new XmlSerializer() : new JsonSerializer();
+        file = File.createTempFile("reflections-", "." + format);
+        file.deleteOnExit();
+        reflections.save(file.getAbsolutePath(), serializer);
+        bytes = Files.readAllBytes(file.toPath());
+    }
+
+    @Benchmark
+    public File write() {
+        return serializer.save(reflections, file.getAbsolutePath());
+    }
+
+    @Benchmark
+    public Reflections read() {
+        return serializer.read(new ByteArrayInputStream(bytes));
+    }
+}
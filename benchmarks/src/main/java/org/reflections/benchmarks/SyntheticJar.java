@@ -0,0 +1,30 @@
+package org.reflections.benchmarks;
+
+import org.reflections.SyntheticClasspath;
+
+import java.io.File;
+
+/**
+ * synthetic jar inputs for the benchmarks, so that they are reproducible offline
+ * <pre>{@code SyntheticClasspath classpath = SyntheticJar.classpath(10000);
+ * File jar = SyntheticJar.generate(classpath)}</pre>
+ * <p>see {@link SyntheticClasspath}, from the reflections test jar
+ */
+public class SyntheticJar {
+
+    /** a single class tree of up to 21845 classes with fan out 4, each with 5 methods, and a single annotation on about 10% of the classes and methods */
+    public static SyntheticClasspath classpath(int classes) {
+        return new SyntheticClasspath()
+            .classes(classes).depth(8).fanOut(4)
+            .annotations(1).annotationDensity(0.1)
+            .methods(5);
+    }
+
+    /** generates the given {@code classpath} into a temporary jar file, deleted on exit */
+    public static File generate(SyntheticClasspath classpath) throws Exception {
+        File jar = File.createTempFile("synthetic-" + classpath.getClasses() + "-", ".jar");
+        jar.deleteOnExit();
+        classpath.writeJar(jar);
+        return jar;
+    }
+}
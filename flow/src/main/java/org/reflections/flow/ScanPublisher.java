@@ -0,0 +1,158 @@
+package org.reflections.flow;
+
+import org.reflections.Configuration;
+import org.reflections.Reflections;
+import org.reflections.ScanListener;
+import org.reflections.ScanRecord;
+import org.reflections.ScanRecordQueue;
+import org.reflections.Store;
+import org.reflections.util.ConfigurationBuilder;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link Flow.Publisher} of {@link ScanRecord}, publishing scan results while the scan is still running
+ * <pre>{@code ScanPublisher publisher = new ScanPublisher(1024);
+ * Reflections reflections = publisher.scan(new ConfigurationBuilder().forPackage("com.my.project"));
+ * publisher.subscribe(subscriber);}</pre>
+ * <p>records are buffered in a bounded {@link ScanRecordQueue}, and delivered by the subscriber demand.
+ * the scanning threads block while the buffer is full, so that demand throttles the scan.
+ * cancelling the subscription stops publishing, and the scan completes without the subscriber.
+ * the subscriber is completed once all records were delivered, or receives the scan failure.
+ * <p>delivery waits for records on a dedicated thread by default. a given executor must not be the one running the scan,
+ * such as the common fork join pool used by {@link Reflections#async(Configuration)}, as waiting for records could then starve the scan.
+ * <p>a single subscriber is supported, since the records are published once.
+ */
+public class ScanPublisher implements Flow.Publisher<ScanRecord> {
+    private final ScanRecordQueue records;
+    @Nullable private final Executor executor;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /** publisher buffering up to {@code capacity} records, delivering on a dedicated thread */
+    public ScanPublisher(int capacity) {
+        this(capacity, null);
+    }
+
+    /** publisher buffering up to {@code capacity} records, delivering on the given {@code executor}, or on a dedicated thread if null */
+    public ScanPublisher(int capacity, @Nullable Executor executor) {
+        this.records = new ScanRecordQueue(capacity);
+        this.executor = executor;
+    }
+
+    /** the listener queueing the scan records, to be added to the scan configuration. see {@link #scan(ConfigurationBuilder)} */
+    public ScanListener getListener() {
+        return records;
+    }
+
+    /**
+     * adds the publisher listener to the given {@code configuration} and scans it in the background, building the {@link Store} while publishing.
+     * <p>see {@link Reflections#async(Configuration)}. note that the scan completes only once all records were delivered, or the subscription was cancelled
+     */
+    public Reflections scan(ConfigurationBuilder configuration) {
+        return Reflections.async(configuration.addScanListeners(records));
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScanRecord> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                public void request(long n) {}
+                public void cancel() {}
+            });
+            subscriber.onError(new IllegalStateException("ScanPublisher supports a single subscriber"));
+            return;
+        }
+        new RecordSubscription(subscriber).start();
+    }
+
+    private class RecordSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ScanRecord> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pending = new AtomicInteger();
+        @Nullable private final ExecutorService service;
+        private final Executor delivery;
+        private volatile boolean done;
+
+        RecordSubscription(Flow.Subscriber<? super ScanRecord> subscriber) {
+            this.subscriber = subscriber;
+            this.service = executor == null ? Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "reflections-publisher");
+                thread.setDaemon(true);
+                return thread;
+            }) : null;
+            this.delivery = service != null ? service : executor;
+        }
+
+        void start() {
+            subscriber.onSubscribe(this);
+            schedule();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("non-positive subscription request " + n));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            finish();
+            records.cancel();
+        }
+
+        private void finish() {
+            done = true;
+            if (service != null) service.shutdown();
+        }
+
+        private void schedule() {
+            if (done || pending.getAndIncrement() != 0) return;
+            try {
+                delivery.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                if (!done) throw e; // the dedicated thread was shut down concurrently
+            }
+        }
+
+        /** delivers records while there is demand, serially, until no more requests are pending */
+        private void drain() {
+            int missed = 1;
+            do {
+                try {
+                    while (!done && demand.get() > 0) {
+                        ScanRecord record = records.take();
+                        if (record == null) break;
+                        subscriber.onNext(record);
+                        if (demand.get() != Long.MAX_VALUE) demand.decrementAndGet();
+                    }
+                    if (!done && records.isEnded()) {
+                        finish();
+                        Throwable failure = records.getFailure();
+                        if (failure != null) subscriber.onError(failure);
+                        else subscriber.onComplete();
+                    }
+                } catch (Throwable e) {
+                    if (!done) {
+                        finish();
+                        records.cancel();
+                        subscriber.onError(e);
+                    }
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
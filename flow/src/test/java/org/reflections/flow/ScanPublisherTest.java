@@ -0,0 +1,148 @@
+package org.reflections.flow;
+
+import org.junit.jupiter.api.Test;
+import org.reflections.Reflections;
+import org.reflections.ScanListener;
+import org.reflections.ScanRecord;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanPublisherTest {
+
+    private static ConfigurationBuilder configuration() {
+        return new ConfigurationBuilder()
+            .forPackage("org.reflections")
+            .filterInputsBy(new FilterBuilder().includePackage("org.reflections.scanners"))
+            .setScanners(Scanners.SubTypes)
+            .setExpandSuperTypes(false);
+    }
+
+    @Test
+    public void completion() throws Exception {
+        ScanPublisher publisher = new ScanPublisher(16);
+        Reflections reflections = publisher.scan(configuration());
+        RecordSubscriber subscriber = new RecordSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        subscriber.done.get(10, TimeUnit.SECONDS);
+        reflections.getScanFuture().get(10, TimeUnit.SECONDS);
+        Map<String, Set<String>> subTypes = new HashMap<>();
+        for (ScanRecord record : subscriber.records) {
+            record.getEntries().forEach(e -> subTypes.computeIfAbsent(e.getKey(), k -> new HashSet<>()).add(e.getValue()));
+        }
+        assertFalse(subTypes.isEmpty());
+        assertEquals(reflections.getStore().get(Scanners.SubTypes.index()), subTypes);
+    }
+
+    @Test
+    public void backpressure() throws Exception {
+        ScanPublisher publisher = new ScanPublisher(1);
+        Reflections reflections = publisher.scan(configuration());
+        RecordSubscriber subscriber = new RecordSubscriber(1);
+        publisher.subscribe(subscriber);
+
+        // a single record is delivered, and the full buffer throttles the scan
+        await(subscriber, 1);
+        Thread.sleep(100);
+        assertEquals(1, subscriber.records.size());
+        assertFalse(reflections.getScanFuture().isDone());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.done.get(10, TimeUnit.SECONDS);
+        reflections.getScanFuture().get(10, TimeUnit.SECONDS);
+        assertTrue(subscriber.records.size() > 1);
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        ScanPublisher publisher = new ScanPublisher(1);
+        Reflections reflections = publisher.scan(configuration());
+        RecordSubscriber subscriber = new RecordSubscriber(1);
+        publisher.subscribe(subscriber);
+
+        await(subscriber, 1);
+        subscriber.subscription.cancel();
+        reflections.getScanFuture().get(10, TimeUnit.SECONDS);
+        assertEquals(1, subscriber.records.size());
+        assertFalse(subscriber.done.isDone());
+        assertFalse(reflections.getStore().get(Scanners.SubTypes.index()).isEmpty());
+    }
+
+    @Test
+    public void failure() {
+        ScanPublisher publisher = new ScanPublisher(16);
+        Reflections reflections = publisher.scan(configuration().addScanListeners(new ScanListener() {
+            @Override
+            public void onScanStart(List<URL> urls) {
+                throw new AssertionError("scan failure"); // listener exceptions are logged, errors fail the scan
+            }
+        }));
+        RecordSubscriber subscriber = new RecordSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        Exception e = assertThrows(Exception.class, () -> subscriber.done.get(10, TimeUnit.SECONDS));
+        assertEquals("scan failure", e.getCause().getMessage());
+        assertTrue(reflections.getScanFuture().isCompletedExceptionally());
+    }
+
+    @Test
+    public void singleSubscriber() {
+        ScanPublisher publisher = new ScanPublisher(16);
+        publisher.subscribe(new RecordSubscriber(0));
+        RecordSubscriber second = new RecordSubscriber(0);
+        publisher.subscribe(second);
+        assertTrue(second.done.isCompletedExceptionally());
+    }
+
+    private static void await(RecordSubscriber subscriber, int records) throws InterruptedException {
+        for (long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10); subscriber.records.size() < records; Thread.sleep(10)) {
+            if (System.nanoTime() > end) fail("timeout");
+        }
+    }
+
+    private static class RecordSubscriber implements Flow.Subscriber<ScanRecord> {
+        final List<ScanRecord> records = new CopyOnWriteArrayList<>();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        final long initial;
+        volatile Flow.Subscription subscription;
+
+        RecordSubscriber(long initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initial > 0) subscription.request(initial);
+        }
+
+        @Override
+        public void onNext(ScanRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            done.completeExceptionally(e);
+        }
+
+        @Override
+        public void onComplete() {
+            done.complete(null);
+        }
+    }
+}
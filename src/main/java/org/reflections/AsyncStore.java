@@ -0,0 +1,124 @@
+package org.reflections;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * store of a background scan, see {@link Reflections#async(Configuration)}
+ * <p>index lookups block until the index is published, other map operations block until the whole scan is complete.
+ * a failed scan fails all pending and later operations with {@link ReflectionsException}
+ */
+class AsyncStore extends Store {
+    final CompletableFuture<Void> done = new CompletableFuture<>();
+    private final Map<String, CompletableFuture<Map<String, Set<String>>>> indexes = new ConcurrentHashMap<>();
+
+    AsyncStore(Set<String> indexes) {
+        indexes.forEach(index -> this.indexes.put(index, new CompletableFuture<>()));
+    }
+
+    /** publishes the given merged index {@code map}, unblocking its lookups */
+    void publish(String index, Map<String, Set<String>> map) {
+        indexes.computeIfAbsent(index, i -> new CompletableFuture<>()).complete(map);
+    }
+
+    /** publishes all indexes of the given {@code storeMap} and completes the scan */
+    void complete(Map<String, Map<String, Set<String>>> storeMap) {
+        super.putAll(storeMap);
+        storeMap.forEach(this::publish);
+        indexes.values().forEach(future -> future.complete(null));
+        done.complete(null);
+    }
+
+    void fail(Throwable e) {
+        indexes.values().forEach(future -> future.completeExceptionally(e));
+        done.completeExceptionally(e);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw new ReflectionsException("scan failed", e.getCause());
+        }
+    }
+
+    private void await() {
+        await(done);
+    }
+
+    @Override
+    public Map<String, Set<String>> get(Object key) {
+        CompletableFuture<Map<String, Set<String>>> future = indexes.get(key);
+        if (future != null && !done.isDone()) return await(future);
+        await();
+        return super.get(key);
+    }
+
+    @Override
+    public Map<String, Set<String>> getOrDefault(Object key, Map<String, Set<String>> defaultValue) {
+        Map<String, Set<String>> map = get(key);
+        return map != null ? map : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) { await(); return super.containsKey(key); }
+
+    @Override
+    public int size() { await(); return super.size(); }
+
+    @Override
+    public boolean isEmpty() { await(); return super.isEmpty(); }
+
+    @Override
+    public Set<String> keySet() { await(); return super.keySet(); }
+
+    @Override
+    public Collection<Map<String, Set<String>>> values() { await(); return super.values(); }
+
+    @Override
+    public Set<Map.Entry<String, Map<String, Set<String>>>> entrySet() { await(); return super.entrySet(); }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Map<String, Set<String>>> action) { await(); super.forEach(action); }
+
+    @Override
+    public Map<String, Set<String>> put(String key, Map<String, Set<String>> value) { await(); return super.put(key, value); }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Map<String, Set<String>>> m) { await(); super.putAll(m); }
+
+    @Override
+    public Map<String, Set<String>> remove(Object key) { await(); return super.remove(key); }
+
+    @Override
+    public void clear() { await(); super.clear(); }
+
+    @Override
+    public Map<String, Set<String>> putIfAbsent(String key, Map<String, Set<String>> value) { await(); return super.putIfAbsent(key, value); }
+
+    @Override
+    public Map<String, Set<String>> computeIfAbsent(String key, Function<? super String, ? extends Map<String, Set<String>>> function) {
+        await();
+        return super.computeIfAbsent(key, function);
+    }
+
+    @Override
+    public Map<String, Set<String>> compute(String key, BiFunction<? super String, ? super Map<String, Set<String>>, ? extends Map<String, Set<String>>> function) {
+        await();
+        return super.compute(key, function);
+    }
+
+    @Override
+    public Map<String, Set<String>> merge(String key, Map<String, Set<String>> value,
+                                          BiFunction<? super Map<String, Set<String>>, ? super Map<String, Set<String>>, ? extends Map<String, Set<String>>> function) {
+        await();
+        return super.merge(key, value, function);
+    }
+}
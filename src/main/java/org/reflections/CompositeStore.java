@@ -0,0 +1,215 @@
+package org.reflections;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * read only store view over several stores, querying their union without copying or merging them
+ * <pre>{@code Reflections reflections = new Reflections(CompositeStore.of(core, plugin));
+ * Set<String> modules = reflections.get(SubTypes.of(Module.class));}</pre>
+ * <p>each index lookup unions the values of all member stores, so that transitive queries such as {@link org.reflections.util.QueryBuilder#getAll(Collection)}
+ * follow keys across store boundaries. values sets found in a single member store are returned as is, and are not copied.
+ * <p>members composed from Reflections instances by {@link #of(Reflections...)} are read on each lookup, so that a member can be rescanned or merged independently,
+ * and the composite sees its latest store version. use {@link #snapshot()} to query fixed member versions.
+ * <p>map operations other than lookups, such as iteration or size, use a union computed per call. modifications are not supported.
+ */
+public class CompositeStore extends Store {
+    private final List<Supplier<? extends Map<String, Map<String, Set<String>>>>> stores;
+
+    private CompositeStore(List<Supplier<? extends Map<String, Map<String, Set<String>>>>> stores) {
+        this.stores = stores;
+    }
+
+    /** composes the given {@code stores} */
+    public static CompositeStore of(Store... stores) {
+        return of(Arrays.asList(stores));
+    }
+
+    /** composes the given {@code stores} */
+    public static CompositeStore of(Collection<? extends Map<String, Map<String, Set<String>>>> stores) {
+        return new CompositeStore(stores.stream()
+            .map(store -> (Supplier<Map<String, Map<String, Set<String>>>>) () -> store)
+            .collect(Collectors.toList()));
+    }
+
+    /** composes the current store versions of the given {@code reflections} instances, see {@link Reflections#getStore()} */
+    public static CompositeStore of(Reflections... reflections) {
+        return new CompositeStore(Arrays.stream(reflections)
+            .map(r -> (Supplier<Store>) r::getStore)
+            .collect(Collectors.toList()));
+    }
+
+    /** the current member stores */
+    public List<Map<String, Map<String, Set<String>>>> getStores() {
+        List<Map<String, Map<String, Set<String>>>> current = new ArrayList<>(stores.size());
+        for (Supplier<? extends Map<String, Map<String, Set<String>>>> store : stores) current.add(store.get());
+        return current;
+    }
+
+    /** a composite of the current member store versions, unaffected by later rescans or merges of its members */
+    public CompositeStore snapshot() {
+        return of(getStores());
+    }
+
+    @Override
+    public Map<String, Set<String>> get(Object index) {
+        List<Map<String, Set<String>>> maps = new ArrayList<>(stores.size());
+        for (Map<String, Map<String, Set<String>>> store : getStores()) {
+            Map<String, Set<String>> map = store.get(index);
+            if (map != null) maps.add(map);
+        }
+        return maps.isEmpty() ? null : maps.size() == 1 ? maps.get(0) : new IndexView(maps);
+    }
+
+    @Override
+    public Map<String, Set<String>> getOrDefault(Object index, Map<String, Set<String>> defaultValue) {
+        Map<String, Set<String>> map = get(index);
+        return map != null ? map : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object index) {
+        return getStores().stream().anyMatch(store -> store.containsKey(index));
+    }
+
+    /** the union of all member stores, per call */
+    private Map<String, Map<String, Set<String>>> union() {
+        Map<String, Map<String, Set<String>>> union = new LinkedHashMap<>();
+        for (Map<String, Map<String, Set<String>>> store : getStores()) {
+            for (String index : store.keySet()) union.computeIfAbsent(index, this::get);
+        }
+        return union;
+    }
+
+    @Override
+    public int size() { return union().size(); }
+
+    @Override
+    public boolean isEmpty() { return getStores().stream().allMatch(Map::isEmpty); }
+
+    @Override
+    public boolean containsValue(Object value) { return union().containsValue(value); }
+
+    @Override
+    public Set<String> keySet() { return Collections.unmodifiableSet(union().keySet()); }
+
+    @Override
+    public Collection<Map<String, Set<String>>> values() { return Collections.unmodifiableCollection(union().values()); }
+
+    @Override
+    public Set<Map.Entry<String, Map<String, Set<String>>>> entrySet() { return Collections.unmodifiableMap(union()).entrySet(); }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Map<String, Set<String>>> action) { union().forEach(action); }
+
+    @Override
+    public Map<String, Set<String>> put(String key, Map<String, Set<String>> value) { throw readOnly(); }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Map<String, Set<String>>> m) { throw readOnly(); }
+
+    @Override
+    public Map<String, Set<String>> remove(Object key) { throw readOnly(); }
+
+    @Override
+    public void clear() { throw readOnly(); }
+
+    @Override
+    public Map<String, Set<String>> putIfAbsent(String key, Map<String, Set<String>> value) { throw readOnly(); }
+
+    @Override
+    public Map<String, Set<String>> computeIfAbsent(String key, Function<? super String, ? extends Map<String, Set<String>>> function) { throw readOnly(); }
+
+    @Override
+    public Map<String, Set<String>> compute(String key, BiFunction<? super String, ? super Map<String, Set<String>>, ? extends Map<String, Set<String>>> function) {
+        throw readOnly();
+    }
+
+    @Override
+    public Map<String, Set<String>> computeIfPresent(String key, BiFunction<? super String, ? super Map<String, Set<String>>, ? extends Map<String, Set<String>>> function) {
+        throw readOnly();
+    }
+
+    @Override
+    public Map<String, Set<String>> merge(String key, Map<String, Set<String>> value,
+                                          BiFunction<? super Map<String, Set<String>>, ? super Map<String, Set<String>>, ? extends Map<String, Set<String>>> function) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) { throw readOnly(); }
+
+    @Override
+    public Map<String, Set<String>> replace(String key, Map<String, Set<String>> value) { throw readOnly(); }
+
+    @Override
+    public boolean replace(String key, Map<String, Set<String>> oldValue, Map<String, Set<String>> newValue) { throw readOnly(); }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Map<String, Set<String>>, ? extends Map<String, Set<String>>> function) { throw readOnly(); }
+
+    @Override
+    public Object clone() { return new CompositeStore(new ArrayList<>(stores)); }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("composite store is read only, modify its member stores instead");
+    }
+
+    /** read only union of an index maps, per key lookup */
+    private static class IndexView extends AbstractMap<String, Set<String>> {
+        private final List<Map<String, Set<String>>> maps;
+
+        IndexView(List<Map<String, Set<String>>> maps) {
+            this.maps = maps;
+        }
+
+        @Override
+        public Set<String> get(Object key) {
+            Set<String> values = null, union = null;
+            for (Map<String, Set<String>> map : maps) {
+                Set<String> set = map.get(key);
+                if (set == null) continue;
+                if (values == null || values.isEmpty()) values = set;
+                else if (!set.isEmpty()) {
+                    if (union == null) union = new LinkedHashSet<>(values);
+                    union.addAll(set);
+                }
+            }
+            return union != null ? Collections.unmodifiableSet(union) : values;
+        }
+
+        @Override
+        public Set<String> getOrDefault(Object key, Set<String> defaultValue) {
+            Set<String> values = get(key);
+            return values != null ? values : defaultValue;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return maps.stream().anyMatch(map -> map.containsKey(key));
+        }
+
+        @Override
+        public Set<Entry<String, Set<String>>> entrySet() {
+            Set<String> keys = new HashSet<>();
+            maps.forEach(map -> keys.addAll(map.keySet()));
+            Map<String, Set<String>> union = new LinkedHashMap<>();
+            for (String key : keys) union.put(key, getOrDefault(key, Collections.emptySet()));
+            return Collections.unmodifiableMap(union).entrySet();
+        }
+    }
+}
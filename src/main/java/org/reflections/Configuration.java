@@ -1,10 +1,15 @@
 package org.reflections;
 
 import org.reflections.scanners.Scanner;
+import org.reflections.util.ScanPipeline;
 
+import javax.annotation.Nullable;
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 
 /**
@@ -30,4 +35,42 @@ public interface Configuration {
     /** if true (default), expand super types after scanning, for super types that were not scanned.
      * <p>see {@link Reflections#expandSuperTypes(Map, Map)}*/
     boolean shouldExpandSuperTypes();
+
+    /** if not empty, only class files referencing any of these type names in their constant pool are parsed and scanned. defaults to empty, scan all class files.
+     * <p>see {@link org.reflections.util.ConfigurationBuilder#setReferencedTypes(String...)} */
+    default Set<String> getReferencedTypes() {
+        return Collections.emptySet();
+    }
+
+    /** if true, keep the scanned entries per url, so that urls can be rescanned or removed. defaults to false.
+     * <p>see {@link Reflections#rescan(URL...)} and {@link Reflections#remove(URL...)} */
+    default boolean shouldTrackProvenance() {
+        return false;
+    }
+
+    /** if not null, scan using the given staged pipeline of readers, parsers and indexers, instead of scanning each url in a single task. defaults to null.
+     * <p>see {@link ScanPipeline} */
+    @Nullable
+    default ScanPipeline getPipeline() {
+        return null;
+    }
+
+    /** listeners notified on scan events, such as per url and per scanner timings. defaults to none.
+     * <p>see {@link ScanListener} */
+    default List<ScanListener> getScanListeners() {
+        return Collections.emptyList();
+    }
+
+    /** the executor used for background scanning by {@link Reflections#async(Configuration)}. defaults to null, using the common fork join pool.
+     * <p>url scanning tasks inherit a {@link java.util.concurrent.ForkJoinPool} executor, so that a dedicated pool also bounds the scan parallelism */
+    @Nullable
+    default Executor getExecutor() {
+        return null;
+    }
+
+    /** if not null, scanned jar segments are cached and shared with other instances using the same cache, see {@link SegmentCache}. defaults to null. */
+    @Nullable
+    default SegmentCache getSegmentCache() {
+        return null;
+    }
 }
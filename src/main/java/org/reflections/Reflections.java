@@ -7,17 +7,24 @@ import org.reflections.scanners.Scanner;
 import org.reflections.scanners.Scanners;
 import org.reflections.serializers.Serializer;
 import org.reflections.serializers.XmlSerializer;
+import org.reflections.util.ClassHeader;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.ConstantPool;
 import org.reflections.util.FilterBuilder;
+import org.reflections.util.JfrEvents;
 import org.reflections.util.NameHelper;
 import org.reflections.util.QueryFunction;
+import org.reflections.util.ScanPipeline;
+import org.reflections.vfs.SystemDir;
+import org.reflections.vfs.SystemFile;
 import org.reflections.vfs.Vfs;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.io.BufferedInputStream;
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -25,25 +32,55 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Inherited;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
+import java.util.zip.ZipFile;
 
 import static java.lang.String.format;
 import static org.reflections.ReflectionUtils.withAnnotation;
@@ -114,8 +151,19 @@ import static org.reflections.scanners.Scanners.*;
 public class Reflections implements NameHelper {
     public final static Logger log = LoggerFactory.getLogger(Reflections.class);
 
+    /** per thread buffer reused for reading class files, see {@link #read(Vfs.File, ClassBytes)} */
+    private static final ThreadLocal<ClassBytes> buffer = ThreadLocal.withInitial(ClassBytes::new);
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
     protected final transient Configuration configuration;
-    protected final Store store;
+    /** the current store version, replaced as a whole by writers and never modified once published, so that readers do not lock */
+    protected volatile Store store;
+    /** scanned segments per url, if {@link Configuration#shouldTrackProvenance()} */
+    @Nullable private transient Map<URL, Store> segments;
+    /** scanned entries per relative file path of directory urls, as flat index, key and value triples, if {@link Configuration#shouldTrackProvenance()} */
+    @Nullable private transient Map<URL, Map<String, String[]>> files;
+    /** metadata merged or collected into this instance, kept apart from the scanned segments so that rebuilds keep it, if {@link Configuration#shouldTrackProvenance()} */
+    @Nullable private transient Store merged;
 
     /**
      * constructs Reflections instance and scan according to the given {@link org.reflections.Configuration}
@@ -123,9 +171,13 @@ public class Reflections implements NameHelper {
      */
     public Reflections(Configuration configuration) {
         this.configuration = configuration;
-        Map<String, Map<String, Set<String>>> storeMap = scan();
-        if (configuration.shouldExpandSuperTypes()) {
-            expandSuperTypes(storeMap.get(SubTypes.index()), storeMap.get(TypesAnnotated.index()));
+        Map<String, Map<String, Set<String>>> storeMap;
+        try {
+            storeMap = scan();
+            expandSuperTypes(storeMap);
+        } catch (RuntimeException | Error e) {
+            notifyListeners(configuration.getScanListeners(), "scan failure", listener -> listener.onScanFailure(e));
+            throw e;
         }
         store = new Store(storeMap);
     }
@@ -135,6 +187,53 @@ public class Reflections implements NameHelper {
         this.store = store;
     }
 
+    private Reflections(Configuration configuration, Store store) {
+        this.configuration = configuration;
+        this.store = store;
+    }
+
+    /**
+     * constructs Reflections instance and returns immediately, scanning according to the given {@link org.reflections.Configuration} in the background
+     * <pre>{@code Reflections reflections = Reflections.async(new ConfigurationBuilder().forPackage("com.my.project"));
+     * ...
+     * Set<Class<?>> modules = reflections.get(SubTypes.of(Module.class).asClass());}</pre>
+     * <p>scanning runs on the {@link Configuration#getExecutor()}, or the common fork join pool if null.
+     * queries block until the indexes they use are complete, while other indexes might still be merged or expanded.
+     * <p>if {@link Configuration#shouldExpandSuperTypes()}, the {@code SubTypes} and {@code TypesAnnotated} indexes are modified by the expansion,
+     * and therefore complete only once the whole scan is done.
+     * use {@link #getScanFuture()} to wait for the whole scan, or to handle scan failure.
+     * <p>note that {@link #scan()} is not used, and subclasses overriding it should use the constructor instead
+     */
+    public static Reflections async(Configuration configuration) {
+        Set<String> indexes = configuration.getScanners().stream().map(Scanner::index).collect(Collectors.toSet());
+        AsyncStore store = new AsyncStore(indexes);
+        Reflections reflections = new Reflections(configuration, store);
+        Executor executor = configuration.getExecutor() != null ? configuration.getExecutor() : ForkJoinPool.commonPool();
+        CompletableFuture.runAsync(() -> {
+            boolean expand = configuration.shouldExpandSuperTypes();
+            Map<String, Map<String, Set<String>>> storeMap = reflections.scan((index, map) -> {
+                if (!expand || !(index.equals(SubTypes.index()) || index.equals(TypesAnnotated.index()))) store.publish(index, map);
+            });
+            reflections.expandSuperTypes(storeMap);
+            store.complete(storeMap);
+        }, executor).whenComplete((none, e) -> {
+            if (e != null) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                store.fail(cause);
+                notifyListeners(configuration.getScanListeners(), "scan failure", listener -> listener.onScanFailure(cause));
+            }
+        });
+        return reflections;
+    }
+
+    /**
+     * returns a future completed once this instance scanning is done, or exceptionally if scanning failed
+     * <p>the future is already completed unless constructed by {@link #async(Configuration)}
+     */
+    public CompletableFuture<Reflections> getScanFuture() {
+        return store instanceof AsyncStore ? ((AsyncStore) store).done.thenApply(none -> this) : CompletableFuture.completedFuture(this);
+    }
+
     /**
      * constructs Reflections instance and scan according to the given package {@code prefix} and optional {@code scanners}
      * <pre>{@code new Reflections("org.reflections")}</pre>
@@ -165,69 +264,575 @@ public class Reflections implements NameHelper {
     }
 
     protected Map<String, Map<String, Set<String>>> scan() {
+        return scan((index, map) -> {});
+    }
+
+    /** scans and merges each index, notifying {@code merged} with each index merged map */
+    private Map<String, Map<String, Set<String>>> scan(BiConsumer<String, Map<String, Set<String>>> merged) {
         long start = System.currentTimeMillis();
-        Map<String, Set<Map.Entry<String, String>>> collect = configuration.getScanners().stream().map(Scanner::index).distinct()
+        Map<URL, Map<String, String[]>> files = configuration.shouldTrackProvenance() ? new HashMap<>() : null;
+        Map<URL, Store> scanned = scan(configuration.getUrls(), files);
+        if (files != null) {
+            this.segments = new HashMap<>(scanned);
+            this.files = files;
+        }
+
+        long merge = System.nanoTime();
+        JfrEvents.Span span = JfrEvents.merge();
+        Map<String, Map<String, Set<String>>> storeMap = merge(scanned, merged);
+        int keys = 0, values = 0;
+        for (Map<String, Set<String>> map : storeMap.values()) {
+            keys += map.size();
+            values += map.values().stream().mapToLong(Set::size).sum();
+        }
+        span.end(values);
+        List<ScanListener> listeners = configuration.getScanListeners();
+        if (log != null || !listeners.isEmpty()) {
+            long mergeTime = System.nanoTime() - merge;
+            int mergedKeys = keys, mergedValues = values;
+            notifyListeners(listeners, "merge", listener -> listener.onMerge(mergedKeys, mergedValues, mergeTime));
+            if (log != null) log.info(format("Reflections took %d ms to scan %d urls, producing %d keys and %d values", System.currentTimeMillis() - start, scanned.size(), keys, values));
+        }
+        return storeMap;
+    }
+
+    /** scans the given {@code urls}, returning the scanned store per url.
+     * <p>if {@code files} is not null, the entries of each file of directory urls are put in it as well, see {@link #flatten(List, String, List)}.
+     * jar segments found in the {@link Configuration#getSegmentCache()} are not scanned, and their entries are replayed to the scan listeners */
+    private Map<URL, Store> scan(Collection<URL> scanUrls, @Nullable Map<URL, Map<String, String[]>> files) {
+        SegmentCache cache = configuration.getSegmentCache();
+        Map<URL, SegmentCache.Key> keys = new HashMap<>();
+        Map<URL, Store> cached = new HashMap<>();
+        if (cache != null) {
+            for (URL url : scanUrls) {
+                SegmentCache.Key key = cache.key(url, configuration);
+                Store hit = key != null ? cache.get(key) : null;
+                if (hit != null) cached.put(url, hit);
+                else if (key != null) keys.put(url, key);
+            }
+        }
+        List<URL> urls = scanOrder(cached.isEmpty() ? scanUrls : scanUrls.stream().filter(url -> !cached.containsKey(url)).collect(Collectors.toList()));
+        Map<URL, Map<String, Set<Map.Entry<String, String>>>> segments = new HashMap<>();
+        Map<URL, Map<String, List<String>>> fileEntries = new HashMap<>(); // directory urls only
+        for (URL url : urls) {
+            segments.put(url, newSegment());
+            java.io.File file = files != null ? Vfs.getFile(url) : null;
+            if (file != null && file.isDirectory()) fileEntries.put(url, new ConcurrentHashMap<>());
+        }
+        ScanContext context = new ScanContext(configuration);
+        ScanPipeline pipeline = configuration.getPipeline();
+        notifyListeners(context.listeners, "scan start", listener -> listener.onScanStart(urls));
+        if (!context.listeners.isEmpty()) cached.values().forEach(hit -> replay(hit, context));
+
+        if (pipeline == null) {
+            Queue<URL> pending = new ConcurrentLinkedQueue<>(urls); // workers take the next largest url, rather than splitting the list up front
+            // parallel streams run in the fork join pool of the current task, such as the async executor, otherwise in the common pool
+            int parallelism = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool().getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+            int workers = configuration.isParallel() ? Math.min(urls.size(), parallelism + 1) : 1;
+            IntStream.range(0, workers).parallel().forEach(worker -> {
+                for (URL url; (url = pending.poll()) != null; ) {
+                    Map<String, Set<Map.Entry<String, String>>> segment = segments.get(url);
+                    Map<String, List<String>> urlFiles = fileEntries.get(url);
+                    Sink sink = (path, scanner, entries) -> {
+                        collect(segment, urlFiles, path, scanner, entries);
+                        context.entries(scanner, entries);
+                    };
+                    scan(url, context, sink, (file, scanners, urlScan) -> {
+                        ClassBytes bytes = buffer.get();
+                        read(file, bytes);
+                        urlScan.bytes.addAndGet(bytes.length);
+                        scan(file.getRelativePath(), bytes.bytes, bytes.length, scanners, urlScan, context, sink);
+                    });
+                }
+            });
+        } else {
+            Queue<ClassBytes> buffers = new ConcurrentLinkedQueue<>(); // handed over from readers to parsers, and back once scanned
+            pipeline.<URL, ClassInput, ClassInput>run(urls,
+                (url, parse) -> scan(url, context,
+                    (path, scanner, entries) -> parse.accept(new ClassInput(url, path, null, Collections.singletonList(scanner), null, entries)),
+                    (file, scanners, urlScan) -> {
+                        ClassBytes bytes = buffers.poll();
+                        read(file, bytes != null ? bytes : (bytes = new ClassBytes()));
+                        urlScan.bytes.addAndGet(bytes.length);
+                        urlScan.pending.incrementAndGet();
+                        parse.accept(new ClassInput(url, file.getRelativePath(), bytes, scanners, urlScan, null));
+                    }),
+                (input, index) -> {
+                    if (input.entries != null) {
+                        index.accept(input);
+                    } else {
+                        try {
+                            scan(input.path, input.bytes.bytes, input.bytes.length, input.scanners, input.urlScan, context,
+                                (path, scanner, entries) -> index.accept(new ClassInput(input.url, path, null, Collections.singletonList(scanner), null, entries)));
+                        } finally {
+                            buffers.offer(input.bytes);
+                        }
+                        context.done(input.urlScan);
+                    }
+                },
+                indexed -> {
+                    Scanner scanner = indexed.scanners.get(0);
+                    collect(segments.get(indexed.url), fileEntries.get(indexed.url), indexed.path, scanner, indexed.entries);
+                    context.entries(scanner, indexed.entries);
+                });
+            if (log != null) log.debug("{}", pipeline);
+        }
+        if (context.scannerTimes != null) {
+            context.scannerTimes.forEach((scanner, time) -> notifyListeners(context.listeners, "scanner time", listener -> listener.onScannerTime(scanner, time.sum())));
+        }
+        Map<URL, Store> stores = new HashMap<>(cached);
+        segments.forEach((url, entries) -> {
+            Store scanned = toStore(entries);
+            stores.put(url, keys.containsKey(url) ? cache.put(keys.get(url), scanned) : scanned);
+        });
+        fileEntries.forEach((url, urlFiles) -> {
+            Map<String, String[]> compact = new HashMap<>();
+            urlFiles.forEach((path, entries) -> compact.put(path, entries.toArray(new String[0])));
+            files.put(url, compact);
+        });
+        return stores;
+    }
+
+    /** adds the scanned {@code entries} of the file {@code path} to the url {@code segment}, and to the url {@code files} entries if not null */
+    private static void collect(Map<String, Set<Map.Entry<String, String>>> segment, @Nullable Map<String, List<String>> files,
+                                String path, Scanner scanner, List<Map.Entry<String, String>> entries) {
+        segment.get(scanner.index()).addAll(entries);
+        if (files != null) flatten(files.computeIfAbsent(path, p -> new ArrayList<>()), scanner.index(), entries);
+    }
+
+    /** appends the {@code entries} of the {@code index} to the {@code flat} list, as index, key and value triples, ignoring null keys.
+     * <p>the per file entries of directory urls are kept flat rather than as a store per file, since most files produce a few entries only.
+     * the strings are shared with the url segment, hence a file costs its array only */
+    private static void flatten(List<String> flat, String index, List<Map.Entry<String, String>> entries) {
+        synchronized (flat) {
+            for (Map.Entry<String, String> entry : entries) {
+                if (entry.getKey() == null) continue;
+                flat.add(index);
+                flat.add(entry.getKey());
+                flat.add(entry.getValue());
+            }
+        }
+    }
+
+    /** the store of the given per file {@code files} entries, see {@link #flatten(List, String, List)} */
+    private Store toStore(Collection<String[]> files) {
+        Store store = new Store();
+        configuration.getScanners().forEach(scanner -> store.putIfAbsent(scanner.index(), new HashMap<>()));
+        for (String[] entries : files) {
+            for (int i = 0; i < entries.length; i += 3) {
+                store.get(entries[i]).computeIfAbsent(entries[i + 1], key -> new HashSet<>()).add(entries[i + 2]);
+            }
+        }
+        return store;
+    }
+
+    /** the key value entries per index of the given per file {@code files} entries */
+    private static Map<String, Set<Map.Entry<String, String>>> entries(Collection<String[]> files) {
+        Map<String, Set<Map.Entry<String, String>>> entries = new HashMap<>();
+        for (String[] file : files) {
+            for (int i = 0; i < file.length; i += 3) {
+                entries.computeIfAbsent(file[i], index -> new HashSet<>()).add(new AbstractMap.SimpleImmutableEntry<>(file[i + 1], file[i + 2]));
+            }
+        }
+        return entries;
+    }
+
+    /** the store of the scanned {@code entries} per index, ignoring null keys */
+    private static Store toStore(Map<String, Set<Map.Entry<String, String>>> entries) {
+        Store store = new Store();
+        entries.forEach((index, set) -> store.put(index, set.stream()
+            .filter(e -> e.getKey() != null)
+            .collect(Collectors.groupingBy(
+                Map.Entry::getKey,
+                HashMap::new,
+                Collectors.mapping(Map.Entry::getValue, Collectors.toSet())))));
+        return store;
+    }
+
+    /** notifies the scan listeners with the entries of a cached {@code segment}, as if scanned */
+    private static void replay(Store segment, ScanContext context) {
+        Set<String> indexes = new HashSet<>();
+        for (Scanner scanner : context.scanners) {
+            Map<String, Set<String>> map = segment.get(scanner.index());
+            if (map == null || !indexes.add(scanner.index())) continue;
+            List<Map.Entry<String, String>> entries = new ArrayList<>(entries(map));
+            if (!entries.isEmpty()) context.entries(scanner, entries);
+        }
+    }
+
+    /** the key value entries of the given index {@code map} */
+    private static Set<Map.Entry<String, String>> entries(Map<String, Set<String>> map) {
+        Set<Map.Entry<String, String>> entries = new HashSet<>();
+        map.forEach((key, values) -> values.forEach(value -> entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value))));
+        return entries;
+    }
+
+    private Map<String, Set<Map.Entry<String, String>>> newSegment() {
+        return configuration.getScanners().stream().map(Scanner::index).distinct()
             .collect(Collectors.toMap(s -> s, s -> Collections.synchronizedSet(new HashSet<>())));
-        Set<URL> urls = configuration.getUrls();
-
-        (configuration.isParallel() ? urls.stream().parallel() : urls.stream()).forEach(url -> {
-            try (Vfs.Dir dir = Vfs.fromURL(url)) {
-                for (Vfs.File file : dir.getFiles()) {
-                    if (doFilter(file, configuration.getInputsFilter())) {
-                        ClassFile classFile = null;
-                        for (Scanner scanner : configuration.getScanners()) {
-                            try {
-                                if (doFilter(file, scanner::acceptsInput)) {
-                                    List<Map.Entry<String, String>> entries = scanner.scan(file);
-                                    if (entries == null) {
-                                        if (classFile == null) classFile = getClassFile(file);
-                                        entries = scanner.scan(classFile);
-                                    }
-                                    if (entries != null) collect.get(scanner.index()).addAll(entries);
+    }
+
+    /** the url of the file {@code path} within the directory {@code url} */
+    static URL segment(URL url, String path) {
+        try {
+            String dir = url.toExternalForm();
+            return new URL(dir.endsWith("/") ? dir + path : dir + "/" + path);
+        } catch (java.net.MalformedURLException e) {
+            throw new ReflectionsException("could not create url for " + path + " in " + url, e);
+        }
+    }
+
+    /** true if the {@code segment} is the given {@code url}, or a file or directory within it */
+    private static boolean within(URL segment, URL url) {
+        return within(segment.toExternalForm(), url.toExternalForm());
+    }
+
+    /** true if the {@code path} is the given {@code prefix} path, or a file or directory within it */
+    private static boolean within(String path, String prefix) {
+        return path.equals(prefix) || path.startsWith(prefix.endsWith("/") ? prefix : prefix + "/");
+    }
+
+    /** merges the segments of all urls per index, notifying {@code merged} with each index merged map.
+     * <p>each index map is built anew, holding all keys. the values sets of keys found in a single segment are shared with the segment rather than copied,
+     * hence are not modified afterwards, see {@link #expandSuperTypes(Map, Map)}. segments are merged in url order, so that the sharing does not depend on hashing */
+    private Map<String, Map<String, Set<String>>> merge(Map<URL, Store> segments, BiConsumer<String, Map<String, Set<String>>> merged) {
+        Map<String, Map<String, Set<String>>> storeMap = new HashMap<>();
+        List<Store> ordered = segments.entrySet().stream()
+            .sorted(Comparator.comparing(segment -> segment.getKey().toExternalForm()))
+            .map(Map.Entry::getValue)
+            .collect(Collectors.toList());
+        for (String index : configuration.getScanners().stream().map(Scanner::index).collect(Collectors.toCollection(LinkedHashSet::new))) {
+            Map<String, Set<String>> map = new HashMap<>();
+            Set<Set<String>> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Store segment : ordered) {
+                segment.getOrDefault(index, Collections.emptyMap()).forEach((key, values) -> {
+                    Set<String> current = map.get(key);
+                    if (current == null) {
+                        map.put(key, values);
+                    } else if (!current.containsAll(values)) {
+                        if (!owned.contains(current)) {
+                            map.put(key, current = new HashSet<>(current));
+                            owned.add(current);
+                        }
+                        current.addAll(values);
+                    }
+                });
+            }
+            storeMap.put(index, map);
+            merged.accept(index, map);
+        }
+        return storeMap;
+    }
+
+    /** notifies each of the {@code listeners} of the scan {@code event}. listener failures are logged and do not fail the scan */
+    private static void notifyListeners(List<ScanListener> listeners, String event, Consumer<ScanListener> notification) {
+        for (ScanListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (Exception e) {
+                if (log != null) log.warn("scan listener failed on {}", event, e);
+            }
+        }
+    }
+
+    /** the scan configuration, resolved once per scan */
+    private static class ScanContext {
+        final Set<Scanner> scanners;
+        @Nullable final FilterBuilder prefixFilter;
+        final Predicate<Vfs.File> filesFilter;
+        @Nullable final Predicate<ConstantPool> referencedFilter;
+        final List<ScanListener> listeners;
+        @Nullable final Map<Scanner, LongAdder> scannerTimes; // only if listening
+        final boolean cpuTime;
+
+        ScanContext(Configuration configuration) {
+            Predicate<String> inputsFilter = configuration.getInputsFilter();
+            scanners = configuration.getScanners();
+            prefixFilter = inputsFilter instanceof FilterBuilder ? (FilterBuilder) inputsFilter : null;
+            filesFilter = prefixFilter != null ? filesFilter(prefixFilter.compile()) : file -> doFilter(file, inputsFilter);
+            referencedFilter = configuration.getReferencedTypes().isEmpty() ? null : ConstantPool.referencing(configuration.getReferencedTypes());
+            listeners = configuration.getScanListeners();
+            scannerTimes = listeners.isEmpty() ? null : scanners.stream().collect(Collectors.toMap(s -> s, s -> new LongAdder()));
+            cpuTime = scannerTimes != null && threads.isCurrentThreadCpuTimeSupported() && threads.isThreadCpuTimeEnabled();
+        }
+
+        /** current thread cpu time if supported, otherwise wall time, to be passed to {@link #time(Scanner, long)} on the same thread */
+        long time() {
+            return scannerTimes == null ? 0 : cpuTime ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+        }
+
+        void time(Scanner scanner, long start) {
+            if (scannerTimes != null) scannerTimes.get(scanner).add(time() - start);
+        }
+
+        void failure(URL url, @Nullable String path, @Nullable Scanner scanner, Exception e) {
+            if (log != null) {
+                if (path == null) log.warn("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
+                else if (scanner == null) log.debug("could not scan file {}", path, e);
+                else log.debug("could not scan file {} with scanner {}", path, scanner.getClass().getSimpleName(), e);
+            }
+            notifyListeners(listeners, "failure", listener -> listener.onFailure(url, path, scanner, e));
+        }
+
+        /** notifies the listeners with the {@code entries} produced by the {@code scanner}, same as {@link #notifyListeners(List, String, Consumer)} without allocating */
+        void entries(Scanner scanner, List<Map.Entry<String, String>> entries) {
+            for (ScanListener listener : listeners) {
+                try {
+                    listener.onEntries(scanner, entries);
+                } catch (Exception e) {
+                    if (log != null) log.warn("scan listener failed on entries of scanner {}", scanner, e);
+                }
+            }
+        }
+
+        /** marks one pending part of the url scan as done, and reports the url once all its inputs were scanned */
+        void done(UrlScan urlScan) {
+            if (urlScan.pending.decrementAndGet() != 0) return;
+            urlScan.span.end(urlScan.entries.get());
+            long time = System.nanoTime() - urlScan.start;
+            if (log != null) log.debug("scanned {} in {} ms", urlScan.url, TimeUnit.NANOSECONDS.toMillis(time));
+            notifyListeners(listeners, "url end", listener -> listener.onUrlEnd(urlScan.url, urlScan.bytes.get(), urlScan.entries.get(), time));
+        }
+    }
+
+    /** a url being scanned, counting the class files bytes read and the entries produced until all its inputs are scanned */
+    private static class UrlScan {
+        final URL url;
+        final long start = System.nanoTime();
+        final JfrEvents.Span span;
+        final AtomicLong bytes = new AtomicLong();
+        final AtomicInteger entries = new AtomicInteger();
+        final AtomicInteger pending = new AtomicInteger(1); // the url itself, and class files handed over to pipeline parsers
+
+        UrlScan(URL url) {
+            this.url = url;
+            this.span = JfrEvents.scan(url);
+        }
+    }
+
+    /** class file of the url to be parsed and scanned by a pipeline parser, or entries already scanned from a file */
+    private static class ClassInput {
+        final URL url;
+        final String path;
+        final ClassBytes bytes;
+        final List<Scanner> scanners;
+        final UrlScan urlScan;
+        final List<Map.Entry<String, String>> entries;
+
+        ClassInput(URL url, String path, ClassBytes bytes, List<Scanner> scanners, UrlScan urlScan, List<Map.Entry<String, String>> entries) {
+            this.url = url;
+            this.path = path;
+            this.bytes = bytes;
+            this.scanners = scanners;
+            this.urlScan = urlScan;
+            this.entries = entries;
+        }
+    }
+
+    /** reusable class file buffer, holding the bytes read by {@link #read(Vfs.File, ClassBytes)} */
+    private static class ClassBytes {
+        byte[] bytes = new byte[16 * 1024];
+        int length;
+    }
+
+    @FunctionalInterface
+    private interface ClassScan {
+        void scan(Vfs.File file, List<Scanner> scanners, UrlScan urlScan) throws Exception;
+    }
+
+    /** accepts the entries scanned from the input {@code path} */
+    @FunctionalInterface
+    private interface Sink {
+        void accept(String path, Scanner scanner, List<Map.Entry<String, String>> entries);
+    }
+
+    /** the existing files of the given relative {@code paths} within a directory */
+    private static Iterable<Vfs.File> files(Vfs.Dir dir, Collection<String> paths) {
+        if (!(dir instanceof SystemDir)) throw new ReflectionsException("could not scan paths of non directory " + dir.getPath());
+        SystemDir systemDir = (SystemDir) dir;
+        return paths.stream()
+            .map(path -> new java.io.File(systemDir.getPath(), path))
+            .filter(java.io.File::isFile)
+            .map(file -> (Vfs.File) new SystemFile(systemDir, file))
+            .collect(Collectors.toList());
+    }
+
+    /** tests all inputs within directory {@code dir} at once, see {@link FilterBuilder#testPrefix(String)}. caches the results in {@code dirs} */
+    @Nullable
+    private Boolean testDir(String dir, FilterBuilder filter, Map<String, Boolean> dirs) {
+        if (dirs.containsKey(dir)) return dirs.get(dir);
+        Boolean path = filter.testPrefix(dir), fqn = filter.testPrefix(dir.replace('/', '.'));
+        Boolean test = path == Boolean.TRUE || fqn == Boolean.TRUE ? Boolean.TRUE :
+            path == Boolean.FALSE && fqn == Boolean.FALSE ? Boolean.FALSE : null;
+        dirs.put(dir, test);
+        return test;
+    }
+
+    private static boolean doFilter(Vfs.File file, @Nullable Predicate<String> predicate) {
+        String path = file.getRelativePath();
+        return predicate == null || predicate.test(path) || predicate.test(path.replace('/', '.'));
+    }
+
+    private static Predicate<Vfs.File> filesFilter(FilterBuilder.Compiled filter) {
+        return file -> filter.testPath(file.getRelativePath());
+    }
+
+    /** scans the inputs of the given {@code url}, passing scanned entries to the {@code sink}, and class files yet to be scanned to {@code classes} */
+    private void scan(URL url, ScanContext context, Sink sink, ClassScan classes) {
+        scan(url, null, context, sink, classes);
+    }
+
+    /** scans the inputs of the given {@code url}, or only the given relative {@code paths} of a directory url if not null */
+    private void scan(URL url, @Nullable Collection<String> paths, ScanContext context, Sink sink, ClassScan classes) {
+        UrlScan urlScan = new UrlScan(url);
+        notifyListeners(context.listeners, "url start", listener -> listener.onUrlStart(url));
+        Map<String, Boolean> dirs = new HashMap<>();
+        try (Vfs.Dir dir = Vfs.fromURL(url)) {
+            Iterable<Vfs.File> files = paths != null ? files(dir, paths) : context.prefixFilter != null ?
+                dir.getFiles(path -> testDir(path, context.prefixFilter, dirs) != Boolean.FALSE) : dir.getFiles();
+            for (Vfs.File file : files) {
+                if (!dirs.isEmpty() && dirs.get(Vfs.dirPath(file.getRelativePath())) == Boolean.TRUE || context.filesFilter.test(file)) {
+                    List<Scanner> scanners = null;
+                    for (Scanner scanner : context.scanners) {
+                        try {
+                            if (doFilter(file, scanner::acceptsInput)) {
+                                long start = context.time();
+                                List<Map.Entry<String, String>> entries = scanner.scan(file);
+                                context.time(scanner, start);
+                                if (entries != null) {
+                                    urlScan.entries.addAndGet(entries.size());
+                                    sink.accept(file.getRelativePath(), scanner, entries);
                                 }
-                            } catch (Exception e) {
-                                if (log != null) log.debug("could not scan file {} with scanner {}", file.getRelativePath(), scanner.getClass().getSimpleName(), e);
+                                else (scanners != null ? scanners : (scanners = new ArrayList<>())).add(scanner);
                             }
+                        } catch (Exception e) {
+                            context.failure(url, file.getRelativePath(), scanner, e);
+                        }
+                    }
+                    if (scanners != null) {
+                        try {
+                            classes.scan(file, scanners, urlScan);
+                        } catch (Exception e) {
+                            context.failure(url, file.getRelativePath(), null, e);
                         }
                     }
                 }
-            } catch (Exception e) {
-                if (log != null) log.warn("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
             }
-        });
+        } catch (Exception e) {
+            context.failure(url, null, null, e);
+        }
+        context.done(urlScan);
+    }
+
+    /** orders the given {@code urls} by estimated scan cost, largest first, so that the longest scans start first rather than becoming the tail of a parallel scan.
+     * <p>the cost is estimated by the number of entries, of the jar central directory or of the directory tree up to {@link #maxEntriesEstimate}.
+     * urls of unknown size are ordered first */
+    static List<URL> scanOrder(Collection<URL> urls) {
+        Map<URL, Long> sizes = new HashMap<>();
+        for (URL url : urls) {
+            sizes.put(url, entriesEstimate(Vfs.getFile(url)));
+        }
+        List<URL> order = new ArrayList<>(urls);
+        order.sort(Comparator.comparing(sizes::get, Comparator.reverseOrder()));
+        if (log != null && log.isDebugEnabled()) {
+            log.debug("scan plan: {}", order.stream()
+                .map(url -> url + (sizes.get(url) != Long.MAX_VALUE ? " (" + sizes.get(url) + " entries)" : " (unknown size)"))
+                .collect(Collectors.joining(", ")));
+        }
+        return order;
+    }
+
+    private static final int maxEntriesEstimate = 1 << 16;
 
-        // merge
-        Map<String, Map<String, Set<String>>> storeMap =
-            collect.entrySet().stream()
-                .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    entry -> entry.getValue().stream().filter(e -> e.getKey() != null)
-                        .collect(Collectors.groupingBy(
-                            Map.Entry::getKey,
-                            HashMap::new,
-                            Collectors.mapping(Map.Entry::getValue, Collectors.toSet())))));
-        if (log != null) {
-            int keys = 0, values = 0;
-            for (Map<String, Set<String>> map : storeMap.values()) {
-                keys += map.size();
-                values += map.values().stream().mapToLong(Set::size).sum();
+    /** number of entries of the given jar or directory, without reading them, or {@link Long#MAX_VALUE} if unknown */
+    private static long entriesEstimate(@Nullable java.io.File file) {
+        try {
+            if (file == null) return Long.MAX_VALUE;
+            if (file.isFile()) {
+                try (ZipFile zipFile = new ZipFile(file)) {
+                    return zipFile.size();
+                }
             }
-            log.info(format("Reflections took %d ms to scan %d urls, producing %d keys and %d values", System.currentTimeMillis() - start, urls.size(), keys, values));
+            if (file.isDirectory()) {
+                AtomicLong entries = new AtomicLong();
+                Files.walkFileTree(file.toPath(), new SimpleFileVisitor<Path>() {
+                    @Override
+                    public FileVisitResult visitFile(Path path, BasicFileAttributes attributes) {
+                        return entries.incrementAndGet() < maxEntriesEstimate ? FileVisitResult.CONTINUE : FileVisitResult.TERMINATE;
+                    }
+                });
+                return entries.get();
+            }
+        } catch (IOException e) {
+            // unknown size
         }
-        return storeMap;
+        return Long.MAX_VALUE;
     }
 
-    private boolean doFilter(Vfs.File file, @Nullable Predicate<String> predicate) {
-        String path = file.getRelativePath();
-        String fqn = path.replace('/', '.');
-        return predicate == null || predicate.test(path) || predicate.test(fqn);
+    /** parses and scans the class file {@code bytes} with the given {@code scanners}, unless its constant pool is not referencing the {@link Configuration#getReferencedTypes()}.
+     * <p>reads the {@link ClassHeader} only if all the given scanners accept it, otherwise parses the whole {@link ClassFile} */
+    private void scan(String path, byte[] bytes, int length, List<Scanner> scanners, UrlScan urlScan, ScanContext context,
+                      Sink sink) {
+        ClassHeader header;
+        boolean headerOnly = true;
+        for (Scanner scanner : scanners) headerOnly &= scanner.acceptsHeader();
+        try {
+            ConstantPool pool = context.referencedFilter != null || headerOnly ? new ConstantPool(bytes, length) : null;
+            if (context.referencedFilter != null && !context.referencedFilter.test(pool)) return;
+            header = headerOnly ? ClassHeader.read(pool) : null;
+        } catch (Exception e) {
+            context.failure(urlScan.url, path, null, e);
+            return;
+        }
+        ClassFile classFile = null;
+        for (Scanner scanner : scanners) {
+            try {
+                long start = context.time();
+                List<Map.Entry<String, String>> entries = header != null ? scanner.scan(header) : null;
+                if (entries == null) {
+                    if (classFile == null) {
+                        classFile = getClassFile(path, bytes, length);
+                        start = context.time();
+                    }
+                    entries = scanner.scan(classFile);
+                }
+                context.time(scanner, start);
+                if (entries != null) {
+                    urlScan.entries.addAndGet(entries.size());
+                    sink.accept(path, scanner, entries);
+                }
+            } catch (Exception e) {
+                context.failure(urlScan.url, path, scanner, e);
+            }
+        }
     }
 
-    private ClassFile getClassFile(Vfs.File file) {
-        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(file.openInputStream()))) {
-            return new ClassFile(dis);
+    private static ClassFile getClassFile(String path, byte[] bytes, int length) {
+        try {
+            return new ClassFile(new DataInputStream(new ByteArrayInputStream(bytes, 0, length)));
         } catch (Exception e) {
-            throw new ReflectionsException("could not create class object from file " + file.getRelativePath(), e);
+            throw new ReflectionsException("could not create class object from file " + path, e);
+        }
+    }
+
+    /** reads the whole {@code file} into the reusable {@code buffer}, growing it to the file size if needed */
+    private static void read(Vfs.File file, ClassBytes buffer) throws IOException {
+        long size = file.getSize();
+        if (size > Integer.MAX_VALUE - 8) throw new IOException("file too large " + file.getRelativePath());
+        byte[] bytes = buffer.bytes;
+        if (size > bytes.length) buffer.bytes = bytes = new byte[(int) size];
+        buffer.length = 0;
+        try (InputStream inputStream = file.openInputStream()) {
+            int length = 0;
+            for (int read; (read = inputStream.read(bytes, length, bytes.length - length)) != -1; ) {
+                length += read;
+                if (length == bytes.length) {
+                    if (length == size || (read = inputStream.read()) == -1) break;
+                    buffer.bytes = bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                    bytes[length++] = (byte) read;
+                }
+            }
+            buffer.length = length;
         }
     }
 
@@ -261,17 +866,57 @@ public class Reflections implements NameHelper {
      */
     public static Reflections collect(String packagePrefix, Predicate<String> resourceNameFilter, Serializer serializer) {
         Collection<URL> urls = ClasspathHelper.forPackage(packagePrefix);
-        Iterable<Vfs.File> files = Vfs.findFiles(urls, packagePrefix, resourceNameFilter);
-        Reflections reflections = new Reflections();
-        StreamSupport.stream(files.spliterator(), false)
-            .forEach(file -> {
+        List<Vfs.File> files = new ArrayList<>();
+        Vfs.findFiles(urls, packagePrefix, resourceNameFilter).forEach(files::add);
+        Store store = files.parallelStream() // parsed concurrently into fresh partial stores, then merged pairwise as a tree
+            .collect(Store::new, (partial, file) -> {
                 try (InputStream inputStream = file.openInputStream()) {
-                    reflections.collect(inputStream, serializer);
+                    JfrEvents.Span span = JfrEvents.collect(file.toString());
+                    Store collected = read(inputStream, serializer).store;
+                    if (span != JfrEvents.Span.NONE) span.end(values(collected));
+                    collected.forEach((index, map) -> {
+                        Map<String, Set<String>> target = partial.computeIfAbsent(index, i -> new HashMap<>());
+                        map.forEach((key, values) -> target.computeIfAbsent(key, k -> new HashSet<>()).addAll(values));
+                    });
                 } catch (IOException e) {
                     throw new ReflectionsException("could not merge " + file, e);
                 }
+            }, Reflections::mergeInto);
+        return new Reflections(store);
+    }
+
+    /**
+     * collect saved deltas, as saved by {@link #save(String, Serializer, Store)}, and apply them on top of the given {@code base} store
+     * <pre>{@code Reflections reflections = Reflections.collect(base.getStore(),
+     *   "META-INF/reflections/", new FilterBuilder().includePattern(".*-reflections\\.xml"), new XmlSerializer())}</pre>
+     * <p>the base store is not modified, and its unchanged index maps and values sets are shared rather than copied, see {@link Store#mergedWith(Map)}
+     */
+    public static Reflections collect(Store base, String packagePrefix, Predicate<String> resourceNameFilter, Serializer serializer) {
+        return new Reflections(base.mergedWith(collect(packagePrefix, resourceNameFilter, serializer).store));
+    }
+
+    /** merges the {@code other} partial store into the {@code store} partial store. index maps and values sets are merged into the larger of the two, deduplicating as it goes.
+     * <p>both partial stores are built by {@link #collect(String, Predicate, Serializer)} and not yet published, hence are modified and shared rather than copied.
+     * deserialized stores are copied into partial stores rather than modified */
+    private static void mergeInto(Store store, Store other) {
+        other.forEach((index, map) -> {
+            Map<String, Set<String>> target = store.get(index);
+            if (target == null) {
+                store.put(index, map);
+                return;
+            }
+            Map<String, Set<String>> into = target.size() < map.size() ? map : target, from = into == map ? target : map;
+            if (into == map) store.put(index, map);
+            from.forEach((key, values) -> {
+                Set<String> current = into.putIfAbsent(key, values);
+                if (current != null && current.size() < values.size()) {
+                    values.addAll(current);
+                    into.put(key, values);
+                } else if (current != null) {
+                    current.addAll(values);
+                }
             });
-        return reflections;
+        });
     }
 
     /**
@@ -279,7 +924,18 @@ public class Reflections implements NameHelper {
      * <p><i>useful if you know the serialized resource location and prefer not to look it up the classpath</i>
      */
     public Reflections collect(InputStream inputStream, Serializer serializer) {
-        return merge(serializer.read(inputStream));
+        return merge(read(inputStream, serializer));
+    }
+
+    private static Reflections read(InputStream inputStream, Serializer serializer) {
+        JfrEvents.Span span = JfrEvents.serialize("read", serializer.getClass(), null);
+        Reflections reflections = serializer.read(inputStream);
+        if (span != JfrEvents.Span.NONE) span.end(values(reflections.store));
+        return reflections;
+    }
+
+    private static long values(Map<String, Map<String, Set<String>>> store) {
+        return store.values().stream().mapToLong(map -> map.values().stream().mapToLong(Set::size).sum()).sum();
     }
 
     /**
@@ -294,15 +950,158 @@ public class Reflections implements NameHelper {
         }
     }
 
-    /** merges the given {@code reflections} instance metadata into this instance */
-    public Reflections merge(Reflections reflections) {
-        reflections.store.forEach((index, map) -> this.store.merge(index, map, (m1, m2) -> {
-            m2.forEach((k, v) -> m1.merge(k, v, (s1, s2) -> { s1.addAll(s2); return s1;}));
-            return m1;
-        }));
+    /** merges the given {@code reflections} instance metadata into this instance.
+     * <p>publishes a new store version, see {@link Store#mergedWith(Map)}, so that concurrent queries keep using the previous version.
+     * if {@link Configuration#shouldTrackProvenance()}, the merged metadata is kept apart as well, and is not dropped by {@link #rescan(URL...)} or {@link #remove(URL...)} */
+    public synchronized Reflections merge(Reflections reflections) {
+        store = store.mergedWith(reflections.store);
+        if (configuration.shouldTrackProvenance()) merged = merged == null ? reflections.store : merged.mergedWith(reflections.store);
         return this;
     }
 
+    private void expandSuperTypes(Map<String, Map<String, Set<String>>> storeMap) {
+        if (configuration.shouldExpandSuperTypes()) {
+            long start = System.nanoTime();
+            JfrEvents.Span span = JfrEvents.expandSuperTypes();
+            expandSuperTypes(storeMap.get(SubTypes.index()), storeMap.get(TypesAnnotated.index()));
+            span.end(storeMap.getOrDefault(SubTypes.index(), Collections.emptyMap()).size());
+            long time = System.nanoTime() - start;
+            notifyListeners(configuration.getScanListeners(), "expand super types", listener -> listener.onExpandSuperTypes(time));
+        }
+    }
+
+    /**
+     * rescans the given {@code urls}, replacing their previously scanned metadata, and re-expands super types
+     * <pre>{@code reflections.rescan(ClasspathHelper.forClass(MyModule.class))}</pre>
+     * <p>the store is rebuilt from the scanned entries of all urls, and the metadata merged or collected into this instance.
+     * <p><i>requires {@link Configuration#shouldTrackProvenance()}</i>
+     */
+    public synchronized Reflections rescan(URL... urls) {
+        Map<URL, Store> segments = segments();
+        Map<URL, Map<String, String[]>> files = new HashMap<>();
+        Map<URL, Store> scanned = scan(Arrays.asList(urls), files);
+        remove(segments, urls);
+        segments.putAll(scanned);
+        this.files.putAll(files);
+        rebuild(segments);
+        return this;
+    }
+
+    /**
+     * removes the metadata scanned from the given {@code urls}, and re-expands super types
+     * <p>the store is rebuilt from the scanned entries of the remaining urls, and the metadata merged or collected into this instance.
+     * urls of files or directories within a scanned directory url are removed from it.
+     * <p><i>requires {@link Configuration#shouldTrackProvenance()}</i>
+     */
+    public synchronized Reflections remove(URL... urls) {
+        Map<URL, Store> segments = segments();
+        remove(segments, urls);
+        rebuild(segments);
+        return this;
+    }
+
+    /** returns the urls which produced the given {@code key} and {@code value} in the {@code scanner} index, see {@link Configuration#shouldTrackProvenance()}.
+     * <p>these are the file urls for directory urls, see {@link #segment(URL, String)}, and the urls themselves otherwise */
+    public synchronized Set<URL> getProvenance(Scanner scanner, String key, String value) {
+        Set<URL> provenance = new LinkedHashSet<>();
+        segments().forEach((url, segment) -> {
+            if (!segment.getOrDefault(scanner.index(), Collections.emptyMap()).getOrDefault(key, Collections.emptySet()).contains(value)) return;
+            Map<String, String[]> urlFiles = files.get(url);
+            if (urlFiles == null) provenance.add(url);
+            else urlFiles.forEach((path, entries) -> {
+                for (int i = 0; i < entries.length; i += 3) {
+                    if (entries[i].equals(scanner.index()) && entries[i + 1].equals(key) && entries[i + 2].equals(value)) {
+                        provenance.add(segment(url, path));
+                        break;
+                    }
+                }
+            });
+        });
+        return provenance;
+    }
+
+    private Map<URL, Store> segments() {
+        getScanFuture().join();
+        if (segments == null) throw new ReflectionsException("provenance is not tracked, use ConfigurationBuilder.setTrackProvenance(true)");
+        return segments;
+    }
+
+    /**
+     * rescans the given relative file {@code paths} of the directory {@code url}, or the whole directory if null, and rebuilds the store.
+     * <p>deleted paths, including deleted directories, are removed. returns the entries added and removed by the changed files
+     */
+    synchronized ScanWatcher.Change update(URL url, @Nullable Collection<String> paths) {
+        Map<URL, Store> segments = segments();
+        Map<String, String[]> urlFiles = files.computeIfAbsent(url, u -> new HashMap<>());
+        Map<String, String[]> before = new HashMap<>();
+        for (Iterator<Map.Entry<String, String[]>> iterator = urlFiles.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<String, String[]> file = iterator.next();
+            if (paths == null || paths.stream().anyMatch(path -> within(file.getKey(), path))) {
+                before.put(file.getKey(), file.getValue());
+                iterator.remove();
+            }
+        }
+
+        Map<String, List<String>> scanned = new HashMap<>();
+        ScanContext context = new ScanContext(configuration);
+        Sink sink = (path, scanner, entries) -> {
+            flatten(scanned.computeIfAbsent(path, p -> new ArrayList<>()), scanner.index(), entries);
+            context.entries(scanner, entries);
+        };
+        scan(url, paths, context, sink, (file, scanners, urlScan) -> {
+            ClassBytes bytes = buffer.get();
+            read(file, bytes);
+            urlScan.bytes.addAndGet(bytes.length);
+            scan(file.getRelativePath(), bytes.bytes, bytes.length, scanners, urlScan, context, sink);
+        });
+        Map<String, String[]> after = new HashMap<>();
+        scanned.forEach((path, entries) -> after.put(path, entries.toArray(new String[0])));
+        urlFiles.putAll(after);
+        segments.put(url, toStore(urlFiles.values()));
+        rebuild(segments);
+        return new ScanWatcher.Change(url, paths, entries(after, before), entries(before, after));
+    }
+
+    /** entries of the {@code files} per index, which are not in the {@code other} files */
+    private static Map<String, Set<Map.Entry<String, String>>> entries(Map<String, String[]> files, Map<String, String[]> other) {
+        Map<String, Set<Map.Entry<String, String>>> entries = entries(files.values());
+        entries(other.values()).forEach((index, set) -> { if (entries.containsKey(index)) entries.get(index).removeAll(set); });
+        entries.values().removeIf(Set::isEmpty);
+        return entries;
+    }
+
+    /** removes the segments within the given {@code urls}, and the files within these of the remaining directory segments */
+    private void remove(Map<URL, Store> segments, URL... urls) {
+        segments.keySet().removeIf(segment -> Arrays.stream(urls).anyMatch(url -> within(segment, url)));
+        files.keySet().retainAll(segments.keySet());
+        for (Map.Entry<URL, Store> segment : segments.entrySet()) {
+            URL dir = segment.getKey();
+            Map<String, String[]> urlFiles = files.get(dir);
+            if (urlFiles == null || Arrays.stream(urls).noneMatch(url -> within(url, dir))) continue;
+            if (urlFiles.keySet().removeIf(path -> Arrays.stream(urls).anyMatch(url -> within(segment(dir, path), url)))) {
+                segment.setValue(toStore(urlFiles.values()));
+            }
+        }
+    }
+
+    private void rebuild(Map<URL, Store> segments) {
+        Map<String, Map<String, Set<String>>> storeMap = merge(segments, (index, map) -> {});
+        if (merged != null) storeMap = new Store(storeMap).mergedWith(merged);
+        expandSuperTypes(storeMap);
+        store = new Store(storeMap);
+    }
+
+    /**
+     * watches the scanned directory urls for changes, and rescans the changed files into this instance store
+     * <pre>{@code ScanWatcher watcher = reflections.watch();
+     * ...
+     * watcher.close();}</pre>
+     * <p><i>requires {@link Configuration#shouldTrackProvenance()}</i>. see {@link ScanWatcher}
+     */
+    public ScanWatcher watch() {
+        return new ScanWatcher(this).start();
+    }
+
     /**
      * expand super types after scanning, for super types that were not scanned.
      * <br>this is helpful for finding the transitive closure without scanning all 3rd party dependencies.
@@ -312,41 +1111,53 @@ public class Reflections implements NameHelper {
      *     <li>if scanning C resulted in B (B->C in store), but A was not scanned (although A is a supertype of B) - then getSubTypes(A) will not return C</li>
      *     <li>if expanding supertypes, B will be expanded with A (A->B in store) - then getSubTypes(A) will return C</li>
      * </ul>
+     * <p>values sets are copied before being modified, since these might be shared with scanned segments, see {@link SegmentCache}
      */
     public void expandSuperTypes(Map<String, Set<String>> subTypesStore, Map<String, Set<String>> typesAnnotatedStore) {
         if (subTypesStore == null || subTypesStore.isEmpty()) return;
         Set<String> keys = new LinkedHashSet<>(subTypesStore.keySet());
         keys.removeAll(subTypesStore.values().stream().flatMap(Collection::stream).collect(Collectors.toSet()));
         keys.remove("java.lang.Object");
+        Set<Set<String>> owned = Collections.newSetFromMap(new IdentityHashMap<>());
         for (String key : keys) {
             Class<?> type = forClass(key, loaders());
             if (type != null) {
-                expandSupertypes(subTypesStore, typesAnnotatedStore, key, type);
+                expandSupertypes(subTypesStore, typesAnnotatedStore, key, type, owned);
             }
         }
     }
 
     private void expandSupertypes(Map<String, Set<String>> subTypesStore,
-              Map<String, Set<String>> typesAnnotatedStore, String key, Class<?> type) {
+              Map<String, Set<String>> typesAnnotatedStore, String key, Class<?> type, Set<Set<String>> owned) {
         Set<Annotation> typeAnnotations = ReflectionUtils.getAnnotations(type);
         if (typesAnnotatedStore != null && !typeAnnotations.isEmpty()) {
             String typeName = type.getName();
             for (Annotation typeAnnotation : typeAnnotations) {
                 String annotationName = typeAnnotation.annotationType().getName();
-                typesAnnotatedStore.computeIfAbsent(annotationName, s -> new HashSet<>()).add(typeName);
+                add(typesAnnotatedStore, annotationName, typeName, owned);
             }
         }
         for (Class<?> supertype : ReflectionUtils.getSuperTypes(type)) {
             String supertypeName = supertype.getName();
-            if (subTypesStore.containsKey(supertypeName)) {
-                subTypesStore.get(supertypeName).add(key);
-            } else {
-                subTypesStore.computeIfAbsent(supertypeName, s -> new HashSet<>()).add(key);
-                expandSupertypes(subTypesStore, typesAnnotatedStore, supertypeName, supertype);
+            boolean expanded = subTypesStore.containsKey(supertypeName);
+            add(subTypesStore, supertypeName, key, owned);
+            if (!expanded) {
+                expandSupertypes(subTypesStore, typesAnnotatedStore, supertypeName, supertype, owned);
             }
         }
     }
 
+    /** adds the {@code value} to the {@code key} values set, copying the set first unless {@code owned} */
+    private static void add(Map<String, Set<String>> map, String key, String value, Set<Set<String>> owned) {
+        Set<String> values = map.get(key);
+        if (values != null && values.contains(value)) return;
+        if (values == null || !owned.contains(values)) {
+            map.put(key, values = values != null ? new HashSet<>(values) : new HashSet<>());
+            owned.add(values);
+        }
+        values.add(value);
+    }
+
     /**
      * apply {@link QueryFunction} on {@link Store}
      * <pre>{@code Set<T> ts = get(query)}</pre>
@@ -358,7 +1169,10 @@ public class Reflections implements NameHelper {
      * }</pre>
      */
     public <T> Set<T> get(QueryFunction<Store, T> query) {
-        return query.apply(store);
+        JfrEvents.Span span = JfrEvents.query();
+        Set<T> result = query.apply(store);
+        span.end(result.size());
+        return result;
     }
 
     /**
@@ -597,11 +1411,31 @@ public class Reflections implements NameHelper {
     /**
      * returns the {@link org.reflections.Store} object used for storing and querying the metadata
      * <p>{@code Store} is basically {@code Map<String, Map<String, Set<String>>>}
+     * <p>this is the current version, which is not modified by later merge, collect or rescan, that publish a new version instead.
+     * <p><i>the returned store must not be modified</i>: its index maps and values sets are not copied, and are shared with the later versions,
+     * as well as with other instances scanning the same cached jars, see {@link SegmentCache}. use {@link Store#mergedWith(Map)} to derive a modified store
      */
     public Store getStore() {
         return store;
     }
 
+    /**
+     * registers a JMX MBean named {@code org.reflections:type=Store,name=<name>} in the platform MBean server, exposing this instance {@link Store#stats()}
+     * <p>statistics are computed on each attribute read. unregister it using the returned object name
+     */
+    public ObjectName registerMBean(String name) {
+        try {
+            Hashtable<String, String> properties = new Hashtable<>();
+            properties.put("type", "Store");
+            properties.put("name", ObjectName.quote(name));
+            ObjectName objectName = new ObjectName("org.reflections", properties);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(StoreStats.mxBean(this::getStore), objectName);
+            return objectName;
+        } catch (Exception e) {
+            throw new ReflectionsException("could not register mbean " + name, e);
+        }
+    }
+
     /** returns the {@link org.reflections.Configuration} object of this instance */
     public Configuration getConfiguration() {
         return configuration;
@@ -620,7 +1454,19 @@ public class Reflections implements NameHelper {
      * <p></p><i>prefer using a designated directory (for example META-INF/reflections but not just META-INF), so that {@link Reflections#collect(String, Predicate, Serializer)} can work much faster</i>
      */
     public File save(String filename, Serializer serializer) {
-        return serializer.save(this, filename);
+        JfrEvents.Span span = JfrEvents.serialize("write", serializer.getClass(), filename);
+        File file = serializer.save(this, filename);
+        if (span != JfrEvents.Span.NONE) span.end(values(store));
+        return file;
+    }
+
+    /**
+     * serialize only the metadata not found in the given {@code baseline} store to the given {@code filename} and {@code serializer}, see {@link Store#deltaFrom(Map)}
+     * <pre>{@code reflections.save("META-INF/reflections/app-reflections.xml", new XmlSerializer(), base.getStore())}</pre>
+     * <p>deltas are applied on top of the baseline using {@link #collect(Store, String, Predicate, Serializer)}
+     */
+    public File save(String filename, Serializer serializer, Store baseline) {
+        return new Reflections(configuration, store.deltaFrom(baseline)).save(filename, serializer);
     }
 
     ClassLoader[] loaders() { return configuration.getClassLoaders(); }
@@ -0,0 +1,83 @@
+package org.reflections;
+
+import org.reflections.scanners.Scanner;
+
+import javax.annotation.Nullable;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * scan instrumentation listener, notified on scan events such as per url and per scanner timings
+ * <pre>{@code new ConfigurationBuilder()
+ *   .forPackage("com.my.project")
+ *   .addScanListeners(new ScanListener() {
+ *     public void onUrlEnd(URL url, long bytes, int entries, long nanos) {
+ *       log.info("scanned {} in {} ms", url, nanos / 1_000_000);
+ *     }
+ *   })}</pre>
+ * <p>all methods default to no-op.
+ * url, scanner and failure events are notified concurrently from the scanning threads, therefore implementations must be thread safe.
+ * exceptions thrown by listeners are logged and do not fail the scan.
+ * <p>see {@link org.reflections.util.ConfigurationBuilder#addScanListeners(ScanListener...)}
+ */
+public interface ScanListener {
+
+    /** scan started, with the given {@code urls} in scan order */
+    default void onScanStart(List<URL> urls) {}
+
+    /** scanning the given {@code url} started */
+    default void onUrlStart(URL url) {}
+
+    /** all inputs of the given {@code url} were scanned, reading {@code bytes} of class files and producing {@code entries} entries, in {@code nanos} time */
+    default void onUrlEnd(URL url, long bytes, int entries, long nanos) {}
+
+    /** the {@code scanner} produced the given key/value {@code entries} for a single input, before they are merged.
+     * <p>see {@link #onEntry(Scanner, String, Executor, Consumer)} */
+    default void onEntries(Scanner scanner, List<Map.Entry<String, String>> entries) {}
+
+    /** could not scan the given {@code url}, or its input {@code path} if not null, either reading, parsing or scanning it with the {@code scanner} if not null */
+    default void onFailure(URL url, @Nullable String path, @Nullable Scanner scanner, Exception e) {}
+
+    /** cumulative cpu time spent by the given {@code scanner} across all scanning threads, notified once all urls were scanned.
+     * <p>this is the time spent in the scanner itself, excluding reading and parsing class files.
+     * it is wall time if the jvm does not support current thread cpu time, see {@link java.lang.management.ThreadMXBean#isCurrentThreadCpuTimeSupported()} */
+    default void onScannerTime(Scanner scanner, long nanos) {}
+
+    /** scanned entries were merged into {@code keys} keys and {@code values} values, in {@code nanos} time */
+    default void onMerge(int keys, int values, long nanos) {}
+
+    /** super types were expanded in {@code nanos} time, see {@link Reflections#expandSuperTypes(java.util.Map, java.util.Map)} */
+    default void onExpandSuperTypes(long nanos) {}
+
+    /** the scan as a whole failed with the given {@code e}, and won't complete. failures of single urls or inputs are notified by {@link #onFailure(URL, String, Scanner, Exception)} */
+    default void onScanFailure(Throwable e) {}
+
+    /**
+     * listener accepting each value produced by the {@code scanner} for the given {@code key}, once per distinct value, as soon as it is scanned
+     * <pre>{@code ScanListener.onEntry(Scanners.TypesAnnotated, "javax.inject.Singleton", null, type -> ...)}</pre>
+     * <p>the {@code consumer} runs on the scanning threads if {@code executor} is null, otherwise it is submitted to the {@code executor}.
+     * only direct entries are matched, for example direct sub types but not transitive or expanded ones.
+     * <p>see {@link org.reflections.util.ConfigurationBuilder#onTypeAnnotated(String, Consumer)} and {@link org.reflections.util.ConfigurationBuilder#onSubTypeOf(String, Consumer)}
+     */
+    static ScanListener onEntry(Scanner scanner, String key, @Nullable Executor executor, Consumer<String> consumer) {
+        String index = scanner.index();
+        Set<String> accepted = ConcurrentHashMap.newKeySet();
+        return new ScanListener() {
+            @Override
+            public void onEntries(Scanner source, List<Map.Entry<String, String>> entries) {
+                if (!source.index().equals(index)) return;
+                for (Map.Entry<String, String> entry : entries) {
+                    if (key.equals(entry.getKey()) && accepted.add(entry.getValue())) {
+                        if (executor != null) executor.execute(() -> consumer.accept(entry.getValue()));
+                        else consumer.accept(entry.getValue());
+                    }
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package org.reflections;
+
+import org.reflections.scanners.Scanner;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * key/value entries produced by a scanner for a single scanned input, such as a class file or resource
+ * <p>see {@link ScanRecordQueue}
+ */
+public class ScanRecord {
+    private final Scanner scanner;
+    private final List<Map.Entry<String, String>> entries;
+
+    public ScanRecord(Scanner scanner, List<Map.Entry<String, String>> entries) {
+        this.scanner = scanner;
+        this.entries = entries;
+    }
+
+    public Scanner getScanner() {
+        return scanner;
+    }
+
+    /** the scanned entries, to be stored in the {@link Scanner#index()} of the scanner */
+    public List<Map.Entry<String, String>> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return scanner.index() + entries;
+    }
+}
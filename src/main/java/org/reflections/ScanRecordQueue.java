@@ -0,0 +1,102 @@
+package org.reflections;
+
+import org.reflections.scanners.Scanner;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * bounded queue of {@link ScanRecord}, consuming scan results incrementally while the scan is still running
+ * <pre>{@code ScanRecordQueue records = new ScanRecordQueue(1024);
+ * Reflections reflections = Reflections.async(new ConfigurationBuilder()
+ *   .forPackage("com.my.project")
+ *   .addScanListeners(records));
+ *
+ * for (ScanRecord record; (record = records.take()) != null; ) {
+ *   ...
+ * }}</pre>
+ * <p>the scanning threads block while the queue is full, so that a slow consumer throttles the scan. the end of the scan is queued once all entries were produced,
+ * or once the scan failed, in which case {@link #getFailure()} returns the scan failure.
+ * <p>{@link #cancel()} stops queueing, so that the scan completes without the consumer.
+ * see also {@code org.reflections.flow.ScanPublisher}, the {@code java.util.concurrent.Flow} publisher of the Java 11 {@code reflections-flow} module
+ */
+public class ScanRecordQueue implements ScanListener {
+    private static final ScanRecord END = new ScanRecord(null, Collections.emptyList());
+
+    private final BlockingQueue<ScanRecord> queue;
+    private final AtomicBoolean ended = new AtomicBoolean();
+    private volatile boolean cancelled;
+    @Nullable private volatile Throwable failure;
+
+    public ScanRecordQueue(int capacity) {
+        queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void onEntries(Scanner scanner, List<Map.Entry<String, String>> entries) {
+        put(new ScanRecord(scanner, entries));
+    }
+
+    @Override
+    public void onMerge(int keys, int values, long nanos) {
+        end();
+    }
+
+    @Override
+    public void onScanFailure(Throwable e) {
+        failure = e;
+        end();
+    }
+
+    /** queues the end of the scan, once */
+    private void end() {
+        if (ended.compareAndSet(false, true)) put(END);
+    }
+
+    private void put(ScanRecord record) {
+        try {
+            while (!cancelled && !queue.offer(record, 100, TimeUnit.MILLISECONDS)) {
+                // waiting for the consumer, or cancel
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReflectionsException("interrupted while queueing scan records", e);
+        }
+    }
+
+    /** takes the next record, waiting if necessary. returns null once the scan ended, or if cancelled. see {@link #getFailure()} */
+    @Nullable
+    public ScanRecord take() throws InterruptedException {
+        if (cancelled) return null;
+        ScanRecord record = queue.take();
+        if (record == END) {
+            queue.offer(END); // later takes also end
+            return null;
+        }
+        return record;
+    }
+
+    /** the scan failure, or null if the scan did not fail */
+    @Nullable
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /** true if the scan ended and all records were taken, or if cancelled */
+    public boolean isEnded() {
+        return cancelled || queue.peek() == END;
+    }
+
+    /** stops queueing records and discards the queued ones, releasing the blocked scanning threads */
+    public void cancel() {
+        cancelled = true;
+        queue.clear();
+        queue.offer(END); // releases a blocked take
+    }
+}
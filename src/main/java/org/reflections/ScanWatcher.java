@@ -0,0 +1,253 @@
+package org.reflections;
+
+import org.reflections.vfs.Vfs;
+
+import javax.annotation.Nullable;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * watches the scanned directory urls of a {@link Reflections} instance, and rescans changed files into its store
+ * <pre>{@code Reflections reflections = new Reflections(new ConfigurationBuilder()
+ *   .forPackage("com.my.project")
+ *   .setTrackProvenance(true));
+ *
+ * ScanWatcher watcher = new ScanWatcher(reflections)
+ *   .addListeners(change -> log.info("added {}, removed {}", change.getAdded(), change.getRemoved()))
+ *   .start();
+ * ...
+ * watcher.close();}</pre>
+ * <p>file system events are batched until no further event arrives within the {@link #setBatchDelay(long) batch delay},
+ * then only the changed files are rescanned, and the store is rebuilt from the scanned entries of all urls, see {@link Reflections#rescan(URL...)}.
+ * <p>intended for development class directories. requires {@link Configuration#shouldTrackProvenance()}, so that directory urls are tracked per file.
+ */
+public class ScanWatcher implements Closeable {
+    private final Reflections reflections;
+    private final WatchService watchService;
+    private final Map<WatchKey, Watched> watched = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private long batchDelay = 200;
+    private volatile Thread thread;
+
+    /** notified once a batch of changes was rescanned */
+    @FunctionalInterface
+    public interface Listener {
+        void onChange(Change change);
+    }
+
+    /** the entries added and removed by rescanning changed files of a directory url */
+    public static class Change {
+        private final URL url;
+        @Nullable private final Collection<String> paths;
+        private final Map<String, Set<Map.Entry<String, String>>> added;
+        private final Map<String, Set<Map.Entry<String, String>>> removed;
+
+        Change(URL url, @Nullable Collection<String> paths, Map<String, Set<Map.Entry<String, String>>> added, Map<String, Set<Map.Entry<String, String>>> removed) {
+            this.url = url;
+            this.paths = paths;
+            this.added = added;
+            this.removed = removed;
+        }
+
+        /** the directory url */
+        public URL getUrl() {
+            return url;
+        }
+
+        /** the changed relative paths, or null if the whole directory was rescanned, for example on events overflow */
+        @Nullable
+        public Collection<String> getPaths() {
+            return paths;
+        }
+
+        /** entries per index scanned from the changed files, which were not scanned from them before */
+        public Map<String, Set<Map.Entry<String, String>>> getAdded() {
+            return added;
+        }
+
+        /** entries per index previously scanned from the changed files, which are not scanned from them anymore */
+        public Map<String, Set<Map.Entry<String, String>>> getRemoved() {
+            return removed;
+        }
+
+        @Override
+        public String toString() {
+            return "Change{url=" + url + ", paths=" + paths + ", added=" + added + ", removed=" + removed + "}";
+        }
+    }
+
+    private static class Watched {
+        final URL url;
+        final Path root;
+        final Path dir;
+
+        Watched(URL url, Path root, Path dir) {
+            this.url = url;
+            this.root = root;
+            this.dir = dir;
+        }
+    }
+
+    public ScanWatcher(Reflections reflections) {
+        if (!reflections.getConfiguration().shouldTrackProvenance()) {
+            throw new ReflectionsException("watching requires tracking provenance, use ConfigurationBuilder.setTrackProvenance(true)");
+        }
+        this.reflections = reflections;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new ReflectionsException("could not create watch service", e);
+        }
+    }
+
+    /** time in milliseconds without further events before a batch of changes is rescanned. defaults to 200 */
+    public ScanWatcher setBatchDelay(long batchDelay) {
+        this.batchDelay = batchDelay;
+        return this;
+    }
+
+    public ScanWatcher addListeners(Listener... listeners) {
+        this.listeners.addAll(Arrays.asList(listeners));
+        return this;
+    }
+
+    /** the watched directory urls, which are the scanned urls of existing directories */
+    public Set<URL> getUrls() {
+        Set<URL> urls = new LinkedHashSet<>();
+        for (URL url : reflections.getConfiguration().getUrls()) {
+            File file = Vfs.getFile(url);
+            if (file != null && file.isDirectory()) urls.add(url);
+        }
+        return urls;
+    }
+
+    /** registers the directory urls with the watch service, and starts watching on a daemon thread */
+    public ScanWatcher start() {
+        for (URL url : getUrls()) {
+            Path root = Vfs.getFile(url).toPath();
+            register(url, root, root);
+        }
+        thread = new Thread(this::watch, "reflections-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    /** stops watching */
+    @Override
+    public void close() {
+        Thread thread = this.thread;
+        this.thread = null;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            if (Reflections.log != null) Reflections.log.warn("could not close watch service", e);
+        }
+        if (thread != null) thread.interrupt();
+    }
+
+    private void watch() {
+        try {
+            while (thread != null) {
+                Map<URL, Set<String>> batch = new LinkedHashMap<>();
+                for (WatchKey key = watchService.take(); key != null; key = watchService.poll(batchDelay, TimeUnit.MILLISECONDS)) {
+                    collect(key, batch);
+                }
+                batch.forEach(this::update);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    /** collects the changed paths of the watch {@code key} per url. a null set of paths stands for the whole url, after events overflow */
+    private void collect(WatchKey key, Map<URL, Set<String>> batch) {
+        Watched dir = watched.get(key);
+        if (dir == null) return;
+        Set<String> paths = batch.containsKey(dir.url) ? batch.get(dir.url) : new LinkedHashSet<>();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                paths = null;
+                continue;
+            }
+            Path path = dir.dir.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                register(dir.url, dir.root, path); // new directory, its files might have been created before it was registered
+                if (paths != null) paths.addAll(files(dir.root, path));
+            }
+            if (paths != null) paths.add(relative(dir.root, path));
+        }
+        batch.put(dir.url, paths);
+        if (!key.reset()) watched.remove(key);
+    }
+
+    private void update(URL url, @Nullable Set<String> paths) {
+        try {
+            Change change = reflections.update(url, paths);
+            if (Reflections.log != null) Reflections.log.debug("rescanned {}", change);
+            for (Listener listener : listeners) listener.onChange(change);
+        } catch (Exception e) {
+            if (Reflections.log != null) Reflections.log.warn("could not rescan changes of {}", url, e);
+        }
+    }
+
+    private void register(URL url, Path root, Path dir) {
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path path, BasicFileAttributes attrs) throws IOException {
+                    watched.put(path.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY), new Watched(url, root, path));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            if (Reflections.log != null) Reflections.log.warn("could not watch directory {}", dir, e);
+        }
+    }
+
+    private static List<String> files(Path root, Path dir) {
+        List<String> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path path, BasicFileAttributes attrs) {
+                    files.add(relative(root, path));
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            return Collections.emptyList();
+        }
+        return files;
+    }
+
+    private static String relative(Path root, Path path) {
+        return root.relativize(path).toString().replace('\\', '/');
+    }
+}
@@ -0,0 +1,145 @@
+package org.reflections;
+
+import org.reflections.scanners.Scanner;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.reflections.vfs.Vfs;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * cache of scanned jar segments, shared by Reflections instances scanning the same jars with the same scan configuration
+ * <pre>{@code new Reflections(new ConfigurationBuilder()
+ *   .addUrls(urls)
+ *   .setSegmentCache(SegmentCache.shared()))}</pre>
+ * <p>a segment is the {@link Store} scanned from a single jar url. segments are keyed by the jar fingerprint, its canonical path, length and last modified time,
+ * and by the scanner instances, inputs filter and referenced types. directories are not cached.
+ * <p>cached segments are frozen, with unmodifiable index maps and values sets, and softly referenced. a cache hit saves scanning the jar, but not merging it:
+ * each Reflections instance still merges the segments of its urls into its own store, with its own key map per index.
+ * the values sets of keys found in a single segment are shared with the segment rather than copied, while keys found in several segments get a new union set.
+ * <p>urls filtered by a predicate other than {@link FilterBuilder} are not cached. scanners are keyed by instance,
+ * therefore scanners configured differently, for example with another results filter, should use separate caches.
+ */
+public class SegmentCache {
+    private static final SegmentCache shared = new SegmentCache();
+
+    private final Map<Key, SoftReference<Store>> segments = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /** the process wide segment cache */
+    public static SegmentCache shared() {
+        return shared;
+    }
+
+    /** number of segments found in this cache */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** number of cacheable segments not found in this cache, and therefore scanned */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** number of cached segments, including ones already cleared by the garbage collector */
+    public int size() {
+        return segments.size();
+    }
+
+    public void clear() {
+        segments.clear();
+    }
+
+    /** the cache key of the {@code url} scanned with the given {@code configuration}, or null if not cacheable */
+    @Nullable
+    Key key(URL url, Configuration configuration) {
+        File file = Vfs.getFile(url);
+        if (file == null || !file.isFile()) return null;
+        Predicate<String> inputsFilter = configuration.getInputsFilter();
+        String filter = inputsFilter == null || inputsFilter == ConfigurationBuilder.DEFAULT_INPUTS_FILTER ? "" :
+            inputsFilter instanceof FilterBuilder ? "filter " + inputsFilter : null;
+        if (filter == null) return null;
+        try {
+            return new Key(file.getCanonicalPath(), file.length(), file.lastModified(),
+                new HashSet<>(configuration.getScanners()), filter, new HashSet<>(configuration.getReferencedTypes()));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Nullable
+    Store get(Key key) {
+        SoftReference<Store> reference = segments.get(key);
+        Store segment = reference != null ? reference.get() : null;
+        if (segment != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            if (reference != null) segments.remove(key, reference);
+        }
+        return segment;
+    }
+
+    /** caches the scanned {@code segment}, returning its frozen copy to be used instead. the given segment should not be modified afterwards */
+    Store put(Key key, Store segment) {
+        Store frozen = new Store();
+        segment.forEach((index, map) -> {
+            Map<String, Set<String>> values = new HashMap<>(map.size() * 4 / 3 + 1);
+            map.forEach((k, v) -> values.put(k, Collections.unmodifiableSet(v)));
+            frozen.put(index, Collections.unmodifiableMap(values));
+        });
+        segments.put(key, new SoftReference<>(frozen));
+        return frozen;
+    }
+
+    @Override
+    public String toString() {
+        return "SegmentCache{size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + "}";
+    }
+
+    static final class Key {
+        private final String path;
+        private final long length;
+        private final long lastModified;
+        private final Set<Scanner> scanners;
+        private final String filter;
+        private final Set<String> referencedTypes;
+
+        Key(String path, long length, long lastModified, Set<Scanner> scanners, String filter, Set<String> referencedTypes) {
+            this.path = path;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.scanners = scanners;
+            this.filter = filter;
+            this.referencedTypes = referencedTypes;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return length == key.length && lastModified == key.lastModified && path.equals(key.path) &&
+                scanners.equals(key.scanners) && filter.equals(key.filter) && referencedTypes.equals(key.referencedTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, length, lastModified, scanners, filter, referencedTypes);
+        }
+    }
+}
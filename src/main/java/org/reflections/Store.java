@@ -1,13 +1,58 @@
 package org.reflections;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 /** stores string key/value pairs per scanner index in a multimap {@code Map<String, Map<String, Set<String>>>}
  * <pre>{@code Set<String> values = reflections.getStore().get("index").get("key")}</pre>
- * <i>{@code Store} multimap is not copy protected, preferably use {@link org.reflections.util.QueryBuilder} to safely rich query the metadata </i> */
+ * <p>{@link Reflections} treats a store as an immutable snapshot once published, and writers such as {@link Reflections#merge(Reflections)} publish a new version
+ * sharing the unchanged index maps and values sets, see {@link #mergedWith(Map)}.
+ * <p><i>{@code Store} multimap is not copy protected, and a published store must not be modified, including its index maps and values sets, since these are shared.
+ * wrapping each values set as unmodifiable would cost an object per key for each published version.
+ * preferably use {@link org.reflections.util.QueryBuilder} to safely rich query the metadata </i> */
 public class Store extends HashMap<String, Map<String, Set<String>>> {
     public Store() {}
     public Store(Map<String, Map<String, Set<String>>> storeMap) { super(storeMap); }
+
+    /** returns a new store with the {@code other} metadata merged into this store metadata, without modifying either.
+     * <p>unchanged index maps and values sets are shared with this store, changed ones are copied */
+    public Store mergedWith(Map<String, Map<String, Set<String>>> other) {
+        Store merged = new Store(this);
+        other.forEach((index, map) -> {
+            Map<String, Set<String>> current = merged.get(index), copy = null;
+            for (Map.Entry<String, Set<String>> entry : map.entrySet()) {
+                Set<String> values = current != null ? current.get(entry.getKey()) : null;
+                if (values != null && values.containsAll(entry.getValue())) continue;
+                if (copy == null) copy = current != null ? new HashMap<>(current) : new HashMap<>();
+                Set<String> union = values != null ? new HashSet<>(values) : new HashSet<>();
+                union.addAll(entry.getValue());
+                copy.put(entry.getKey(), union);
+            }
+            if (copy != null) merged.put(index, copy);
+            else if (current == null) merged.put(index, new HashMap<>());
+        });
+        return merged;
+    }
+
+    /** returns a new store with the metadata of this store not found in the {@code baseline}, such that {@code baseline.mergedWith(delta)} contains this store.
+     * <p>keys and indexes not found in the baseline are kept even if empty. metadata found only in the baseline is not recorded, since deltas are applied by merging, see {@link Reflections#collect(Store, String, java.util.function.Predicate, org.reflections.serializers.Serializer)} */
+    public Store deltaFrom(Map<String, Map<String, Set<String>>> baseline) {
+        Store delta = new Store();
+        forEach((index, map) -> {
+            Map<String, Set<String>> base = baseline.getOrDefault(index, Collections.emptyMap()), changed = new HashMap<>();
+            map.forEach((key, values) -> {
+                Set<String> baseValues = base.get(key), added = new HashSet<>(values);
+                if (baseValues != null) added.removeAll(baseValues);
+                if (baseValues == null || !added.isEmpty()) changed.put(key, added);
+            });
+            if (!changed.isEmpty() || !baseline.containsKey(index)) delta.put(index, changed);
+        });
+        return delta;
+    }
+
+    /** computes the store statistics per index, such as keys and values counts, and estimated heap size. see {@link StoreStats} */
+    public StoreStats stats() { return new StoreStats(this); }
 }
@@ -0,0 +1,199 @@
+package org.reflections;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Store} statistics and memory footprint estimation, per index
+ * <pre>{@code StoreStats stats = reflections.getStore().stats();
+ * stats.getIndex("SubTypes").getValues()}</pre>
+ * <p>the heap size is estimated for a 64 bit JVM with compressed oops and compact strings, assuming mostly latin1 type names.
+ * each distinct string instance is counted once, in the first index it is found in.
+ * <p>see also {@link Reflections#registerMBean(String)}
+ */
+public class StoreStats {
+    // estimated shallow sizes, 64 bit JVM with compressed oops
+    private static final int HASH_MAP = 48, HASH_SET = 16, NODE = 32, ARRAY = 16, REF = 4, STRING = 24;
+
+    private final Map<String, IndexStats> indexes;
+
+    StoreStats(Map<String, Map<String, Set<String>>> store) {
+        Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+        indexes = new TreeMap<>(store).entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> new IndexStats(e.getKey(), e.getValue(), strings), (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /** statistics per index name */
+    public Map<String, IndexStats> getIndexes() {
+        return Collections.unmodifiableMap(indexes);
+    }
+
+    /** statistics of the given {@code index}, or null if not found */
+    public IndexStats getIndex(String index) {
+        return indexes.get(index);
+    }
+
+    public long getKeys() {
+        return sum(IndexStats::getKeys);
+    }
+
+    public long getValues() {
+        return sum(IndexStats::getValues);
+    }
+
+    public long getStringBytes() {
+        return sum(IndexStats::getStringBytes);
+    }
+
+    /** estimated retained heap size of the store in bytes, including keys and values strings */
+    public long getEstimatedHeapBytes() {
+        return HASH_MAP + table(indexes.size()) + indexes.size() * (long) NODE + sum(IndexStats::getEstimatedHeapBytes);
+    }
+
+    private long sum(Function<IndexStats, Long> function) {
+        return indexes.values().stream().mapToLong(function::apply).sum();
+    }
+
+    @Override
+    public String toString() {
+        return indexes.values().stream().map(IndexStats::toString).collect(Collectors.joining("\n",
+            String.format("StoreStats{keys=%d, values=%d, stringBytes=%d, estimatedHeapBytes=%d}\n", getKeys(), getValues(), getStringBytes(), getEstimatedHeapBytes()), ""));
+    }
+
+    /** statistics of a single store index */
+    public static class IndexStats {
+        private final String index;
+        private final long keys;
+        private long values;
+        private int maxCardinality;
+        private final long[] histogram = new long[32];
+        private long stringBytes;
+        private long estimatedHeapBytes;
+
+        IndexStats(String index, Map<String, Set<String>> map, Set<String> strings) {
+            this.index = index;
+            this.keys = map.size();
+            estimatedHeapBytes = HASH_MAP + table(map.size());
+            for (Map.Entry<String, Set<String>> entry : map.entrySet()) {
+                Set<String> set = entry.getValue();
+                int size = set.size();
+                values += size;
+                maxCardinality = Math.max(maxCardinality, size);
+                histogram[32 - Integer.numberOfLeadingZeros(size)]++;
+                estimatedHeapBytes += NODE + HASH_SET + HASH_MAP + table(size) + (long) size * NODE;
+                string(entry.getKey(), strings);
+                for (String value : set) string(value, strings);
+            }
+        }
+
+        private void string(String string, Set<String> strings) {
+            if (string != null && strings.add(string)) {
+                stringBytes += string.length();
+                estimatedHeapBytes += STRING + align(ARRAY + string.length());
+            }
+        }
+
+        public String getIndex() {
+            return index;
+        }
+
+        public long getKeys() {
+            return keys;
+        }
+
+        /** total number of values, over all keys */
+        public long getValues() {
+            return values;
+        }
+
+        /** largest number of values for a single key */
+        public int getMaxCardinality() {
+            return maxCardinality;
+        }
+
+        /** number of keys by values cardinality, where the i-th element counts keys having {@code [2^(i-1), 2^i)} values, and the first element counts keys having no values */
+        public long[] getHistogram() {
+            int length = histogram.length;
+            while (length > 1 && histogram[length - 1] == 0) length--;
+            long[] copy = new long[length];
+            System.arraycopy(histogram, 0, copy, 0, length);
+            return copy;
+        }
+
+        /** total characters of distinct keys and values strings, which is their byte size as latin1 compact strings */
+        public long getStringBytes() {
+            return stringBytes;
+        }
+
+        /** estimated retained heap size of the index in bytes, including keys and values strings */
+        public long getEstimatedHeapBytes() {
+            return estimatedHeapBytes;
+        }
+
+        @Override
+        public String toString() {
+            long[] histogram = getHistogram();
+            StringBuilder buckets = new StringBuilder();
+            for (int i = 0; i < histogram.length; i++) {
+                if (histogram[i] != 0) buckets.append(buckets.length() > 0 ? ", " : "").append(i == 0 ? "0" : "<" + (1L << i)).append('=').append(histogram[i]);
+            }
+            return String.format("%s{keys=%d, values=%d, maxCardinality=%d, histogram={%s}, stringBytes=%d, estimatedHeapBytes=%d}",
+                index, keys, values, maxCardinality, buckets, stringBytes, estimatedHeapBytes);
+        }
+    }
+
+    /** estimated hash table size for the given {@code size}, with the default load factor */
+    private static long table(int size) {
+        if (size == 0) return 0;
+        int capacity = Integer.highestOneBit(Math.max(1, (int) (size / 0.75f)) * 2 - 1);
+        return align(ARRAY + (long) REF * Math.max(16, capacity));
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7;
+    }
+
+    /** JMX view of the store statistics, computed on each attribute read */
+    public interface StoreStatsMXBean {
+        long getKeys();
+
+        long getValues();
+
+        long getStringBytes();
+
+        long getEstimatedHeapBytes();
+
+        /** keys per index */
+        Map<String, Long> getIndexKeys();
+
+        /** values per index */
+        Map<String, Long> getIndexValues();
+
+        /** estimated heap bytes per index */
+        Map<String, Long> getIndexEstimatedHeapBytes();
+    }
+
+    static StoreStatsMXBean mxBean(Supplier<Store> store) {
+        return new StoreStatsMXBean() {
+            public long getKeys() { return store.get().stats().getKeys(); }
+            public long getValues() { return store.get().stats().getValues(); }
+            public long getStringBytes() { return store.get().stats().getStringBytes(); }
+            public long getEstimatedHeapBytes() { return store.get().stats().getEstimatedHeapBytes(); }
+            public Map<String, Long> getIndexKeys() { return perIndex(IndexStats::getKeys); }
+            public Map<String, Long> getIndexValues() { return perIndex(IndexStats::getValues); }
+            public Map<String, Long> getIndexEstimatedHeapBytes() { return perIndex(IndexStats::getEstimatedHeapBytes); }
+
+            private Map<String, Long> perIndex(Function<IndexStats, Long> function) {
+                return store.get().stats().getIndexes().values().stream()
+                    .collect(Collectors.toMap(IndexStats::getIndex, function, (a, b) -> a, LinkedHashMap::new));
+            }
+        };
+    }
+}
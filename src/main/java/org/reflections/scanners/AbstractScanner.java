@@ -1,6 +1,7 @@
 package org.reflections.scanners;
 
 import javassist.bytecode.ClassFile;
+import org.reflections.util.ClassHeader;
 
 import java.util.List;
 import java.util.Map;
@@ -22,4 +23,14 @@ class AbstractScanner implements Scanner {
 	public List<Map.Entry<String, String>> scan(final ClassFile cls) {
 		return scanner.scan(cls);
 	}
+
+	@Override
+	public List<Map.Entry<String, String>> scan(ClassHeader header) {
+		return scanner.scan(header);
+	}
+
+	@Override
+	public boolean acceptsHeader() {
+		return scanner.acceptsHeader();
+	}
 }
@@ -1,6 +1,7 @@
 package org.reflections.scanners;
 
 import javassist.bytecode.ClassFile;
+import org.reflections.util.ClassHeader;
 import org.reflections.vfs.Vfs;
 
 import javax.annotation.Nullable;
@@ -27,6 +28,18 @@ public interface Scanner {
         return null;
     }
 
+    /** scan the given class file {@code header} and produces list of {@link Map.Entry} key/values
+     * <p>used instead of {@link #scan(ClassFile)} if all scanners of the class file {@link #acceptsHeader()}, scanners which consume files by {@link #scan(Vfs.File)} aside. otherwise returns null */
+    @Nullable
+    default List<Map.Entry<String, String>> scan(ClassHeader header) {
+        return null;
+    }
+
+    /** true if this scanner requires only the class name, super class, interfaces and class annotations, see {@link #scan(ClassHeader)} */
+    default boolean acceptsHeader() {
+        return false;
+    }
+
     /** unique index name for scanner */
     default String index() {
         return getClass().getSimpleName();
@@ -2,6 +2,7 @@ package org.reflections.scanners;
 
 import javassist.bytecode.ClassFile;
 import org.reflections.Store;
+import org.reflections.util.ClassHeader;
 import org.reflections.util.FilterBuilder;
 import org.reflections.util.NameHelper;
 import org.reflections.util.QueryBuilder;
@@ -54,6 +55,17 @@ public enum Scanners implements Scanner, QueryBuilder, NameHelper {
             entries.add(entry(classFile.getSuperclass(), classFile.getName()));
             entries.addAll(entries(Arrays.asList(classFile.getInterfaces()), classFile.getName()));
         }
+
+        @Override
+        void scan(ClassHeader header, List<Map.Entry<String, String>> entries) {
+            entries.add(entry(header.getSuperclass(), header.getName()));
+            entries.addAll(entries(Arrays.asList(header.getInterfaces()), header.getName()));
+        }
+
+        @Override
+        public boolean acceptsHeader() {
+            return true;
+        }
     },
 
     /** scan type annotations */
@@ -67,6 +79,16 @@ public enum Scanners implements Scanner, QueryBuilder, NameHelper {
         public void scan(ClassFile classFile, List<Map.Entry<String, String>> entries) {
             entries.addAll(entries(getAnnotations(classFile::getAttribute), classFile.getName()));
         }
+
+        @Override
+        void scan(ClassHeader header, List<Map.Entry<String, String>> entries) {
+            entries.addAll(entries(header.getAnnotations(), header.getName()));
+        }
+
+        @Override
+        public boolean acceptsHeader() {
+            return true;
+        }
     },
 
     /** scan method annotations */
@@ -201,8 +223,19 @@ public enum Scanners implements Scanner, QueryBuilder, NameHelper {
         return entries.stream().filter(a -> acceptResult(a.getKey())).collect(Collectors.toList());
     }
 
+    @Override
+    public final List<Map.Entry<String, String>> scan(ClassHeader header) {
+        if (!acceptsHeader()) return null;
+        List<Map.Entry<String, String>> entries = new ArrayList<>();
+        scan(header, entries);
+        return entries.stream().filter(a -> acceptResult(a.getKey())).collect(Collectors.toList());
+    }
+
     abstract void scan(ClassFile classFile, List<Map.Entry<String, String>> entries);
 
+    /** adds the header entries, only called if {@link #acceptsHeader()} */
+    void scan(ClassHeader header, List<Map.Entry<String, String>> entries) {}
+
     protected boolean acceptResult(String fqn) {
         return fqn != null && resultFilter.test(fqn);
     }
@@ -43,6 +43,7 @@ import java.util.stream.IntStream;
  * <p>this allows strongly typed access by fqn to type elements - packages, classes, annotations, fields and methods:
  * <pre>{@code MyTestModelStore.org.reflections.TestModel$C1.methods.m1.class}</pre>
  * <p>depends on {@link org.reflections.scanners.TypeElementsScanner} configured
+ * <p>types and elements are written sorted. use {@link #setCanonical(boolean)} to also omit the generation timestamp, for deterministic output
  */
 public class JavaCodeSerializer implements Serializer {
 
@@ -55,6 +56,13 @@ public class JavaCodeSerializer implements Serializer {
     private StringBuilder sb;
     private List<String> prevPaths;
     private int indent;
+    private boolean canonical = false;
+
+    /** if true, omit the generation timestamp, so that equal stores are saved into identical files. defaults to false */
+    public JavaCodeSerializer setCanonical(boolean canonical) {
+        this.canonical = canonical;
+        return this;
+    }
 
     public Reflections read(InputStream inputStream) {
         throw new UnsupportedOperationException("read is not implemented on JavaCodeSerializer");
@@ -88,7 +96,9 @@ public class JavaCodeSerializer implements Serializer {
         //generate
         try {
             sb = new StringBuilder();
-            sb.append("//generated using Reflections JavaCodeSerializer").append(" [").append(new Date()).append("]").append("\n");
+            sb.append("//generated using Reflections JavaCodeSerializer");
+            if (!canonical) sb.append(" [").append(new Date()).append("]");
+            sb.append("\n");
             if (packageName.length() != 0) {
                 sb.append("package ").append(packageName).append(";\n");
                 sb.append("\n");
@@ -1,14 +1,24 @@
 package org.reflections.serializers;
 
-import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import org.reflections.Reflections;
+import org.reflections.ReflectionsException;
+import org.reflections.Store;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.nio.file.Files;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * json serialization for {@link org.reflections.Reflections} <pre>{@code reflections.save(file, new JsonSerializer())}</pre>
@@ -31,24 +41,84 @@ import java.nio.file.Files;
  *   }
  * }
  * }</pre>
+ * <p>reads and writes streaming over the store contents only, using gson {@link JsonReader} and {@link JsonWriter}.
+ * use {@code new JsonSerializer(false)} for compact output without indentation, and {@link #setCanonical(boolean)} for deterministic output.
  * */
 public class JsonSerializer implements Serializer {
+    private final boolean prettyPrinting;
+    private boolean canonical = false;
+
+    /** json serializer with pretty printed output */
+    public JsonSerializer() {
+        this(true);
+    }
+
+    /** json serializer with pretty printed output indented by two spaces, or compact output if {@code prettyPrinting} is false */
+    public JsonSerializer(boolean prettyPrinting) {
+        this.prettyPrinting = prettyPrinting;
+    }
+
+    /** if true, write indexes, keys and values sorted, so that equal stores are saved into identical files. defaults to false */
+    public JsonSerializer setCanonical(boolean canonical) {
+        this.canonical = canonical;
+        return this;
+    }
 
     @Override
     public Reflections read(InputStream inputStream) {
-        return new GsonBuilder().setPrettyPrinting().create()
-            .fromJson(new InputStreamReader(inputStream), Reflections.class);
+        try {
+            JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+            reader.setLenient(true);
+            Store store = new Store();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("store")) read(reader, store);
+                else reader.skipValue();
+            }
+            reader.endObject();
+            return new Reflections(store);
+        } catch (Exception e) {
+            throw new ReflectionsException("could not read.", e);
+        }
+    }
+
+    private static void read(JsonReader reader, Store store) throws IOException {
+        Map<String, String> strings = new HashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            Map<String, Set<String>> map = store.computeIfAbsent(reader.nextName(), index -> new HashMap<>());
+            reader.beginObject();
+            while (reader.hasNext()) {
+                Set<String> values = map.computeIfAbsent(Serializer.intern(reader.nextName(), strings), key -> new HashSet<>());
+                reader.beginArray();
+                while (reader.hasNext()) values.add(Serializer.intern(reader.nextString(), strings));
+                reader.endArray();
+            }
+            reader.endObject();
+        }
+        reader.endObject();
     }
 
     @Override
     public File save(Reflections reflections, String filename) {
-        try {
-            File file = Serializer.prepareFile(filename);
-            String json = new GsonBuilder().setPrettyPrinting().create().toJson(reflections);
-            Files.write(file.toPath(), json.getBytes(Charset.defaultCharset()));
-            return file;
+        File file = Serializer.prepareFile(filename);
+        try (JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)))) {
+            writer.setHtmlSafe(true); // as gson does by default
+            if (prettyPrinting) writer.setIndent("  ");
+            writer.beginObject().name("store").beginObject();
+            for (Map.Entry<String, Map<String, Set<String>>> index : Serializer.entries(reflections.getStore(), canonical)) {
+                writer.name(index.getKey()).beginObject();
+                for (Map.Entry<String, Set<String>> entry : Serializer.entries(index.getValue(), canonical)) {
+                    writer.name(entry.getKey()).beginArray();
+                    for (String value : Serializer.values(entry.getValue(), canonical)) writer.value(value);
+                    writer.endArray();
+                }
+                writer.endObject();
+            }
+            writer.endObject().endObject();
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new ReflectionsException("could not save to file " + filename, e);
         }
+        return file;
     }
 }
@@ -4,6 +4,11 @@ import org.reflections.Reflections;
 
 import java.io.File;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /** de/serialization for {@link org.reflections.Reflections} instance metadata
  * <p>see {@link XmlSerializer}, {@link JsonSerializer}, {@link JavaCodeSerializer} */
@@ -23,4 +28,23 @@ public interface Serializer {
         }
         return file;
     }
+
+    /** the entries of the given {@code map} sorted by key if {@code canonical}, otherwise in the map iteration order */
+    static <V> Iterable<Map.Entry<String, V>> entries(Map<String, V> map, boolean canonical) {
+        if (!canonical) return map.entrySet();
+        List<Map.Entry<String, V>> entries = new ArrayList<>(map.entrySet());
+        entries.sort(Map.Entry.comparingByKey());
+        return entries;
+    }
+
+    /** the given {@code values} sorted if {@code canonical}, otherwise in the set iteration order */
+    static Iterable<String> values(Set<String> values, boolean canonical) {
+        return canonical ? values.stream().sorted().collect(Collectors.toList()) : values;
+    }
+
+    /** the instance of the given {@code string} found in {@code strings}, adding it first if missing, so that equal keys and values read share a single instance */
+    static String intern(String string, Map<String, String> strings) {
+        String existing = strings.putIfAbsent(string, string);
+        return existing != null ? existing : string;
+    }
 }
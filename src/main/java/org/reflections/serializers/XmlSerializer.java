@@ -1,22 +1,27 @@
 package org.reflections.serializers;
 
-import org.dom4j.Document;
-import org.dom4j.DocumentFactory;
-import org.dom4j.Element;
-import org.dom4j.Node;
-import org.dom4j.io.OutputFormat;
-import org.dom4j.io.SAXReader;
-import org.dom4j.io.XMLWriter;
 import org.reflections.Reflections;
 import org.reflections.ReflectionsException;
 import org.reflections.Store;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 
 /**
  * xml serialization for {@link org.reflections.Reflections} <pre>{@code reflections.save(file, new XmlSerializer())}</pre>
@@ -43,48 +48,116 @@ import java.util.stream.Collectors;
  *   </TypesAnnotated>
  * </Reflections>
  * }</pre>
+ * <p>reads and writes streaming, using {@code javax.xml.stream}, without building a document in memory.
+ * strings read are deduplicated, so that a type name found in several indexes is stored once.
+ * <p>use {@link #setCanonical(boolean)} for deterministic output, see {@link Serializer#entries(Map, boolean)}.
  */
 public class XmlSerializer implements Serializer {
+	private boolean canonical = false;
+
+	/** if true, write indexes, keys and values sorted, so that equal stores are saved into identical files. defaults to false */
+	public XmlSerializer setCanonical(boolean canonical) {
+		this.canonical = canonical;
+		return this;
+	}
 
 	public Reflections read(InputStream inputStream) {
 		try {
-			Document document = new SAXReader().read(inputStream);
-			Map<String, Map<String, Set<String>>> storeMap =
-				document.getRootElement()
-					.elements().stream()
-					.collect(Collectors.toMap(Node::getName,
-						index -> index.elements().stream().collect(Collectors.toMap(
-							entry -> entry.element("key").getText(),
-							entry -> entry.element("values").elements().stream().map(Element::getText).collect(Collectors.toSet())))));
-			return new Reflections(new Store(storeMap));
+			XMLInputFactory factory = XMLInputFactory.newInstance();
+			factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+			XMLStreamReader reader = factory.createXMLStreamReader(inputStream);
+			try {
+				return new Reflections(read(reader));
+			} finally {
+				reader.close();
+			}
 		} catch (Exception e) {
 			throw new ReflectionsException("could not read.", e);
 		}
 	}
 
+	private Store read(XMLStreamReader reader) throws XMLStreamException {
+		Store store = new Store();
+		Map<String, String> strings = new HashMap<>();
+		reader.nextTag(); // Reflections
+		while (reader.nextTag() == START_ELEMENT) {
+			Map<String, Set<String>> map = store.computeIfAbsent(reader.getLocalName(), index -> new HashMap<>());
+			while (reader.nextTag() == START_ELEMENT) { // entry
+				String key = null;
+				Set<String> values = new HashSet<>();
+				while (reader.nextTag() == START_ELEMENT) {
+					if (reader.getLocalName().equals("key")) {
+						key = Serializer.intern(reader.getElementText(), strings);
+					} else if (reader.getLocalName().equals("values")) {
+						while (reader.nextTag() == START_ELEMENT) values.add(Serializer.intern(reader.getElementText(), strings));
+					} else {
+						throw new XMLStreamException("unexpected element " + reader.getLocalName(), reader.getLocation());
+					}
+				}
+				if (key == null) throw new XMLStreamException("entry without key", reader.getLocation());
+				map.computeIfAbsent(key, k -> new HashSet<>()).addAll(values);
+			}
+		}
+		return store;
+	}
+
 	public File save(Reflections reflections, String filename) {
 		File file = Serializer.prepareFile(filename);
-		try (FileOutputStream out = new FileOutputStream(file)) {
-			new XMLWriter(out, OutputFormat.createPrettyPrint())
-				.write(createDocument(reflections.getStore()));
+		try (Writer out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+			XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out);
+			write(writer, reflections.getStore());
+			writer.close();
 		} catch (Exception e) {
 			throw new ReflectionsException("could not save to file " + filename, e);
 		}
 		return file;
 	}
 
-	private Document createDocument(Store store) {
-		Document document = DocumentFactory.getInstance().createDocument();
-		Element root = document.addElement("Reflections");
-		store.forEach((index, map) -> {
-			Element indexElement = root.addElement(index);
-			map.forEach((key, values) -> {
-				Element entryElement = indexElement.addElement("entry");
-				entryElement.addElement("key").setText(key);
-				Element valuesElement = entryElement.addElement("values");
-				values.forEach(value -> valuesElement.addElement("value").setText(value));
-			});
-		});
-		return document;
+	/** writes the pretty printed document, indented by two spaces */
+	private void write(XMLStreamWriter writer, Store store) throws XMLStreamException {
+		writer.writeStartDocument("UTF-8", "1.0");
+		writer.writeCharacters("\n\n");
+		writer.writeStartElement("Reflections");
+		for (Map.Entry<String, Map<String, Set<String>>> index : Serializer.entries(store, canonical)) {
+			writer.writeCharacters("\n  ");
+			if (index.getValue().isEmpty()) {
+				writer.writeEmptyElement(index.getKey());
+				continue;
+			}
+			writer.writeStartElement(index.getKey());
+			for (Map.Entry<String, Set<String>> entry : Serializer.entries(index.getValue(), canonical)) {
+				writer.writeCharacters("\n    ");
+				writer.writeStartElement("entry");
+				writer.writeCharacters("\n      ");
+				writeElement(writer, "key", entry.getKey());
+				writer.writeCharacters("\n      ");
+				if (entry.getValue().isEmpty()) {
+					writer.writeEmptyElement("values");
+				} else {
+					writer.writeStartElement("values");
+					for (String value : Serializer.values(entry.getValue(), canonical)) {
+						writer.writeCharacters("\n        ");
+						writeElement(writer, "value", value);
+					}
+					writer.writeCharacters("\n      ");
+					writer.writeEndElement();
+				}
+				writer.writeCharacters("\n    ");
+				writer.writeEndElement();
+			}
+			writer.writeCharacters("\n  ");
+			writer.writeEndElement();
+		}
+		writer.writeCharacters("\n");
+		writer.writeEndElement();
+		writer.writeCharacters("\n");
+		writer.writeEndDocument();
+	}
+
+	private static void writeElement(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+		writer.writeStartElement(name);
+		writer.writeCharacters(text);
+		writer.writeEndElement();
 	}
 }
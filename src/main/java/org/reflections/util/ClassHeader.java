@@ -0,0 +1,149 @@
+package org.reflections.util;
+
+import org.reflections.ReflectionsException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * class file header, containing the class name, super class, interfaces and class annotations only
+ * <pre>{@code ClassHeader header = ClassHeader.read(bytes, length)}</pre>
+ * <p>the class file is streamed through, skipping over fields, methods and other attributes without materializing them.
+ * this is much cheaper than parsing a full {@link javassist.bytecode.ClassFile}, and is used by scanners which {@link org.reflections.scanners.Scanner#acceptsHeader()}
+ */
+public class ClassHeader {
+    private static final String visibleTag = "RuntimeVisibleAnnotations";
+    private static final String invisibleTag = "RuntimeInvisibleAnnotations";
+
+    private final int accessFlags;
+    private final String name;
+    private final String superclass;
+    private final String[] interfaces;
+    private final List<String> annotations;
+
+    private ClassHeader(int accessFlags, String name, String superclass, String[] interfaces, List<String> annotations) {
+        this.accessFlags = accessFlags;
+        this.name = name;
+        this.superclass = superclass;
+        this.interfaces = interfaces;
+        this.annotations = annotations;
+    }
+
+    /** reads the class file header from the given class file {@code bytes} */
+    public static ClassHeader read(byte[] bytes, int length) {
+        return read(new ConstantPool(bytes, length));
+    }
+
+    /** reads the class file header following the given {@code pool} */
+    public static ClassHeader read(ConstantPool pool) {
+        try {
+            int offset = pool.end();
+            int accessFlags = pool.u2(offset);
+            String name = pool.className(pool.u2(offset + 2));
+            String superclass = pool.className(pool.u2(offset + 4));
+            String[] interfaces = new String[pool.u2(offset + 6)];
+            offset += 8;
+            for (int i = 0; i < interfaces.length; i++, offset += 2) {
+                interfaces[i] = pool.className(pool.u2(offset));
+            }
+            offset = skipMembers(pool, offset); // fields
+            offset = skipMembers(pool, offset); // methods
+
+            List<String> annotations = Collections.emptyList();
+            int attributes = pool.u2(offset);
+            offset += 2;
+            for (int i = 0; i < attributes; i++) {
+                String attribute = pool.utf8(pool.u2(offset));
+                int length = pool.u4(offset + 2);
+                offset += 6;
+                if (visibleTag.equals(attribute) || JavassistHelper.includeInvisibleTag && invisibleTag.equals(attribute)) {
+                    if (annotations.isEmpty()) annotations = new ArrayList<>();
+                    readAnnotations(pool, offset, visibleTag.equals(attribute) ? 0 : annotations.size(), annotations);
+                }
+                offset += length;
+            }
+            if (offset > pool.length()) throw new ReflectionsException("truncated class file");
+            return new ClassHeader(accessFlags, name, superclass, interfaces, annotations);
+        } catch (IndexOutOfBoundsException e) {
+            throw new ReflectionsException("could not read class file header", e);
+        }
+    }
+
+    private static int skipMembers(ConstantPool pool, int offset) {
+        int members = pool.u2(offset);
+        offset += 2;
+        for (int i = 0; i < members; i++) {
+            int attributes = pool.u2(offset + 6);
+            offset += 8;
+            for (int j = 0; j < attributes; j++) {
+                offset += 6 + pool.u4(offset + 2);
+            }
+        }
+        return offset;
+    }
+
+    /** adds annotation type names at {@code index}, keeping visible annotations ahead of invisible ones */
+    private static void readAnnotations(ConstantPool pool, int offset, int index, List<String> annotations) {
+        int count = pool.u2(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            String descriptor = pool.utf8(pool.u2(offset));
+            annotations.add(index++, descriptor.substring(1, descriptor.length() - 1).replace('/', '.'));
+            offset = skipElementValuePairs(pool, offset + 2);
+        }
+    }
+
+    private static int skipElementValuePairs(ConstantPool pool, int offset) {
+        int pairs = pool.u2(offset);
+        offset += 2;
+        for (int i = 0; i < pairs; i++) {
+            offset = skipElementValue(pool, offset + 2);
+        }
+        return offset;
+    }
+
+    private static int skipElementValue(ConstantPool pool, int offset) {
+        char tag = (char) pool.u1(offset);
+        switch (tag) {
+            case 'e': return offset + 5;
+            case '@': return skipElementValuePairs(pool, offset + 3);
+            case '[': {
+                int values = pool.u2(offset + 1);
+                offset += 3;
+                for (int i = 0; i < values; i++) offset = skipElementValue(pool, offset);
+                return offset;
+            }
+            default: return offset + 3; // const_value_index or class_info_index
+        }
+    }
+
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    /** class name fqn, same as {@link javassist.bytecode.ClassFile#getName()} */
+    public String getName() {
+        return name;
+    }
+
+    /** super class name fqn, same as {@link javassist.bytecode.ClassFile#getSuperclass()} */
+    public String getSuperclass() {
+        return superclass;
+    }
+
+    /** interfaces names fqn, same as {@link javassist.bytecode.ClassFile#getInterfaces()} */
+    public String[] getInterfaces() {
+        return interfaces;
+    }
+
+    /** class annotations type names, same as {@link JavassistHelper#getAnnotations(java.util.function.Function)} */
+    public List<String> getAnnotations() {
+        return annotations;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -21,11 +21,14 @@ import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Helper methods for working with the classpath.
  */
 public abstract class ClasspathHelper {
+    private static final Pattern VERSIONED_ROOT = Pattern.compile("(.*!/)META-INF/versions/\\d+/");
 
     /**
      * Gets the current thread context class loader.
@@ -111,7 +114,7 @@ public abstract class ClasspathHelper {
                     int index = url.toExternalForm().lastIndexOf(resourceName);
                     if (index != -1) {
                         // Add old url as contextUrl to support exotic url handlers
-                        result.add(new URL(url, url.toExternalForm().substring(0, index)));
+                        result.add(new URL(url, root(url.toExternalForm().substring(0, index))));
                     } else {
                         result.add(url);
                     }
@@ -143,7 +146,7 @@ public abstract class ClasspathHelper {
                 final URL url = classLoader.getResource(resourceName);
                 if (url != null) {
                     final String normalizedUrl = url.toExternalForm().substring(0, url.toExternalForm().lastIndexOf(aClass.getPackage().getName().replace(".", "/")));
-                    return new URL(normalizedUrl);
+                    return new URL(root(normalizedUrl));
                 }
             } catch (MalformedURLException e) {
                 if (Reflections.log != null) {
@@ -153,7 +156,13 @@ public abstract class ClasspathHelper {
         }
         return null;
     }
-    
+
+    /** the jar root of a multi release jar versioned directory url such as {@code jar:file:a.jar!/META-INF/versions/11/}, otherwise the given url */
+    private static String root(String url) {
+        Matcher matcher = VERSIONED_ROOT.matcher(url);
+        return matcher.matches() ? matcher.group(1) : url;
+    }
+
     /**
      * Returns a distinct collection of URLs based on URLs derived from class loaders.
      * <p>
@@ -2,9 +2,12 @@ package org.reflections.util;
 
 import org.reflections.Configuration;
 import org.reflections.ReflectionsException;
+import org.reflections.ScanListener;
+import org.reflections.SegmentCache;
 import org.reflections.scanners.Scanner;
 import org.reflections.scanners.Scanners;
 
+import javax.annotation.Nullable;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,6 +16,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -43,6 +48,12 @@ public class ConfigurationBuilder implements Configuration {
     private boolean isParallel = true;
     private ClassLoader[] classLoaders;
     private boolean expandSuperTypes = true;
+    private Set<String> referencedTypes = new HashSet<>();
+    private ScanPipeline pipeline;
+    private List<ScanListener> scanListeners = new ArrayList<>();
+    private Executor executor;
+    private boolean trackProvenance = false;
+    private SegmentCache segmentCache;
 
     public ConfigurationBuilder() {
         urls = new HashSet<>();
@@ -238,4 +249,135 @@ public class ConfigurationBuilder implements Configuration {
         this.expandSuperTypes = expandSuperTypes;
         return this;
     }
+
+    @Override
+    /* @inherited */
+    public Set<String> getReferencedTypes() {
+        return referencedTypes;
+    }
+
+    /** targeted scan, parse and scan only class files referencing any of the given {@code typeNames}, such as annotations or super types.
+     * <pre>{@code new ConfigurationBuilder()
+     *   .forPackage("com.my.project")
+     *   .setScanners(TypesAnnotated, MethodsAnnotated)
+     *   .setReferencedTypes("com.my.project.Entity", "com.my.project.Get")}</pre>
+     * <p>the constant pool of each class file is read first, and class files not referencing any of the type names are skipped without being parsed.
+     * <p><i>note that other metadata of the scanned class files is indexed as well, and that transitive relations are not indexed:
+     * for example a subtype of a subtype does not reference the base type, and is therefore not scanned</i> */
+    public ConfigurationBuilder setReferencedTypes(String... typeNames) {
+        this.referencedTypes = new HashSet<>(Arrays.asList(typeNames));
+        return this;
+    }
+
+    /** targeted scan, parse and scan only class files referencing any of the given {@code types}. see {@link #setReferencedTypes(String...)} */
+    public ConfigurationBuilder setReferencedTypes(Class<?>... types) {
+        return setReferencedTypes(Stream.of(types).map(Class::getName).toArray(String[]::new));
+    }
+
+    @Override
+    /* @inherited */
+    public boolean shouldTrackProvenance() {
+        return trackProvenance;
+    }
+
+    /** if true, keep the scanned entries per url, so that urls can be rescanned or removed later. this retains the scanned entries in addition to the store.
+     * <pre>{@code Reflections reflections = new Reflections(new ConfigurationBuilder()
+     *   .forPackage("com.my.project")
+     *   .setTrackProvenance(true));
+     * reflections.rescan(url);}</pre>
+     * <p>see {@link org.reflections.Reflections#rescan(URL...)} and {@link org.reflections.Reflections#remove(URL...)} */
+    public ConfigurationBuilder setTrackProvenance(boolean trackProvenance) {
+        this.trackProvenance = trackProvenance;
+        return this;
+    }
+
+    @Override
+    /* @inherited */
+    public ScanPipeline getPipeline() {
+        return pipeline;
+    }
+
+    /** scan using the given staged pipeline, reading, parsing and indexing inputs with separate parallelism and bounded queues between stages.
+     * <pre>{@code new ConfigurationBuilder()
+     *   .forPackage("com.my.project")
+     *   .setPipeline(new ScanPipeline(readers, parsers, indexers, capacity))}</pre>
+     * <p>{@link #isParallel()} is not used when scanning with a pipeline. see {@link ScanPipeline} */
+    public ConfigurationBuilder setPipeline(ScanPipeline pipeline) {
+        this.pipeline = pipeline;
+        return this;
+    }
+
+    @Override
+    /* @inherited */
+    public List<ScanListener> getScanListeners() {
+        return scanListeners;
+    }
+
+    /** set the listeners notified on scan events, such as per url and per scanner timings. see {@link ScanListener} */
+    public ConfigurationBuilder setScanListeners(ScanListener... scanListeners) {
+        this.scanListeners = new ArrayList<>(Arrays.asList(scanListeners));
+        return this;
+    }
+
+    /** add listeners notified on scan events, such as per url and per scanner timings. see {@link ScanListener} */
+    public ConfigurationBuilder addScanListeners(ScanListener... scanListeners) {
+        this.scanListeners.addAll(Arrays.asList(scanListeners));
+        return this;
+    }
+
+    /** accepts each type directly annotated with the given {@code annotation} name as soon as it is scanned, on the scanning threads.
+     * <pre>{@code new ConfigurationBuilder()
+     *   .forPackage("com.my.project")
+     *   .onTypeAnnotated("javax.inject.Singleton", type -> ...)}</pre>
+     * <p>requires {@link Scanners#TypesAnnotated} configured. see {@link ScanListener#onEntry(Scanner, String, Executor, Consumer)} */
+    public ConfigurationBuilder onTypeAnnotated(String annotation, Consumer<String> consumer) {
+        return onTypeAnnotated(annotation, null, consumer);
+    }
+
+    /** accepts each type directly annotated with the given {@code annotation} name as soon as it is scanned, on the given {@code executor} if not null.
+     * <p>requires {@link Scanners#TypesAnnotated} configured. see {@link ScanListener#onEntry(Scanner, String, Executor, Consumer)} */
+    public ConfigurationBuilder onTypeAnnotated(String annotation, @Nullable Executor executor, Consumer<String> consumer) {
+        return addScanListeners(ScanListener.onEntry(Scanners.TypesAnnotated, annotation, executor, consumer));
+    }
+
+    /** accepts each direct sub type of the given {@code type} name as soon as it is scanned, on the scanning threads.
+     * <p>requires {@link Scanners#SubTypes} configured. see {@link ScanListener#onEntry(Scanner, String, Executor, Consumer)} */
+    public ConfigurationBuilder onSubTypeOf(String type, Consumer<String> consumer) {
+        return onSubTypeOf(type, null, consumer);
+    }
+
+    /** accepts each direct sub type of the given {@code type} name as soon as it is scanned, on the given {@code executor} if not null.
+     * <p>requires {@link Scanners#SubTypes} configured. see {@link ScanListener#onEntry(Scanner, String, Executor, Consumer)} */
+    public ConfigurationBuilder onSubTypeOf(String type, @Nullable Executor executor, Consumer<String> consumer) {
+        return addScanListeners(ScanListener.onEntry(Scanners.SubTypes, type, executor, consumer));
+    }
+
+    @Override
+    /* @inherited */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /** set the executor used for background scanning by {@link org.reflections.Reflections#async(Configuration)}.
+     * <p>a {@link java.util.concurrent.ForkJoinPool} executor also runs the parallel url scanning tasks */
+    public ConfigurationBuilder setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    /* @inherited */
+    public SegmentCache getSegmentCache() {
+        return segmentCache;
+    }
+
+    /** cache scanned jar segments in the given {@code segmentCache}, so that instances scanning the same jars scan them once.
+     * each instance still builds its own store, sharing only the values sets of keys found in a single segment.
+     * <pre>{@code new ConfigurationBuilder()
+     *   .forPackage("com.my.project")
+     *   .setSegmentCache(SegmentCache.shared())}</pre> */
+    public ConfigurationBuilder setSegmentCache(SegmentCache segmentCache) {
+        this.segmentCache = segmentCache;
+        return this;
+    }
 }
@@ -0,0 +1,148 @@
+package org.reflections.util;
+
+import org.reflections.ReflectionsException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * lightweight class file constant pool reader, over the class file bytes and without parsing the rest of the class file
+ * <pre>{@code ConstantPool pool = new ConstantPool(bytes, length);
+ * String className = pool.className(pool.u2(pool.end() + 2))}</pre>
+ * <p>see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html#jvms-4.4">The Constant Pool</a>
+ */
+public class ConstantPool {
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private final byte[] bytes;
+    private final int length;
+    private final int[] offsets; // constant offset by index, pointing to its tag
+    private final int end;
+
+    /** reads the constant pool of the class file in the given {@code bytes}, starting at offset 0 */
+    public ConstantPool(byte[] bytes, int length) {
+        this.bytes = bytes;
+        this.length = length;
+        if (length < 10 || u4(0) != MAGIC) throw new ReflectionsException("not a class file");
+
+        int count = u2(8);
+        offsets = new int[count];
+        int offset = 10;
+        for (int i = 1; i < count; i++) {
+            offsets[i] = offset;
+            int tag = u1(offset);
+            switch (tag) {
+                case 1: offset += 3 + u2(offset + 1); break; // Utf8
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: offset += 5; break;
+                case 5: case 6: offset += 9; i++; break; // Long, Double take two entries
+                case 7: case 8: case 16: case 19: case 20: offset += 3; break;
+                case 15: offset += 4; break; // MethodHandle
+                default: throw new ReflectionsException("unknown constant pool tag " + tag + " at " + offset);
+            }
+            if (offset > length) throw new ReflectionsException("truncated class file");
+        }
+        end = offset;
+    }
+
+    /** number of constant pool entries, including the unused index 0 */
+    public int size() {
+        return offsets.length;
+    }
+
+    /** offset of the first byte after the constant pool, pointing to the class access flags */
+    public int end() {
+        return end;
+    }
+
+    /** Utf8 constant at the given {@code index}, decoded as modified UTF-8, same as {@link DataInputStream#readUTF()} */
+    public String utf8(int index) {
+        int offset = offsets[index], length = u2(offset + 1);
+        for (int i = offset + 3; i < offset + 3 + length; i++) {
+            if (bytes[i] <= 0) return readUTF(offset + 1, length); // non ascii, such as supplementary characters or NUL
+        }
+        return new String(bytes, offset + 3, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private String readUTF(int offset, int length) {
+        try {
+            return new DataInputStream(new ByteArrayInputStream(bytes, offset, length + 2)).readUTF();
+        } catch (IOException e) {
+            throw new ReflectionsException("invalid Utf8 constant at " + offset, e);
+        }
+    }
+
+    /** Class constant at the given {@code index}, as fqn such as {@code java.lang.Object}. returns null for index 0 */
+    public String className(int index) {
+        return index != 0 ? utf8(u2(offsets[index] + 1)).replace('/', '.') : null;
+    }
+
+    /** true if any of the Utf8 constants equals any of the given {@code utf8s} bytes */
+    public boolean containsUtf8(byte[][] utf8s) {
+        for (int i = 1; i < offsets.length; i++) {
+            int offset = offsets[i];
+            if (offset == 0 || bytes[offset] != 1) continue;
+            int length = u2(offset + 1);
+            for (byte[] utf8 : utf8s) {
+                if (utf8.length == length && equals(utf8, offset + 3)) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean equals(byte[] utf8, int offset) {
+        for (int i = utf8.length - 1; i >= 0; i--) {
+            if (utf8[i] != bytes[offset + i]) return false;
+        }
+        return true;
+    }
+
+    public int u1(int offset) {
+        return bytes[offset] & 0xFF;
+    }
+
+    public int u2(int offset) {
+        return (bytes[offset] & 0xFF) << 8 | bytes[offset + 1] & 0xFF;
+    }
+
+    public int u4(int offset) {
+        return u2(offset) << 16 | u2(offset + 2);
+    }
+
+    /** the class file length */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * predicate matching constant pools referencing any of the given {@code typeNames},
+     * either as a class name (for example super class, interface or usage) or as a descriptor (for example annotation or field type)
+     * <pre>{@code ConstantPool.referencing(Arrays.asList("org.foo.Bar")).test(pool)}</pre>
+     */
+    public static Predicate<ConstantPool> referencing(Collection<String> typeNames) {
+        byte[][] utf8s = typeNames.stream()
+            .map(typeName -> typeName.replace('.', '/'))
+            .flatMap(internalName -> Stream.of(internalName, "L" + internalName + ";"))
+            .map(ConstantPool::modifiedUtf8)
+            .toArray(byte[][]::new);
+        return pool -> pool.containsUtf8(utf8s);
+    }
+
+    /** the given {@code string} encoded as modified UTF-8 as in class files, same as {@link DataOutputStream#writeUTF(String)} without the length */
+    public static byte[] modifiedUtf8(String string) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(string.length() + 2);
+        try {
+            new DataOutputStream(bytes).writeUTF(string);
+        } catch (IOException e) {
+            throw new ReflectionsException("could not encode " + string, e);
+        }
+        return Arrays.copyOfRange(bytes.toByteArray(), 2, bytes.size());
+    }
+}
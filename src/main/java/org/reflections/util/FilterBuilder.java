@@ -2,10 +2,13 @@ package org.reflections.util;
 
 import org.reflections.ReflectionsException;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -94,12 +97,38 @@ public class FilterBuilder implements Predicate<String> {
     }
 
     public boolean test(String regex) {
+        return test(filter -> filter.test(regex));
+    }
+
+    /**
+     * tests all values starting with the given {@code prefix} at once, for example a package {@code "a.b."} or a directory {@code "a/b/"}
+     * <pre>{@code new FilterBuilder().includePackage("a.b").testPrefix("a.b.c.") == true}</pre>
+     * returns true if all such values are accepted, false if none is accepted, or null if it depends on the rest of the value.
+     * <p><i>decided only by literal prefix patterns such as package filters, otherwise returns null</i>
+     */
+    @Nullable
+    public Boolean testPrefix(String prefix) {
+        return test(filter -> filter instanceof Matcher ? ((Matcher) filter).testPrefix(prefix) : null);
+    }
+
+    /**
+     * compiles a snapshot of this filter into a {@link Compiled} predicate, which also tests relative paths directly
+     * <pre>{@code FilterBuilder.Compiled filter = new FilterBuilder().includePackage("a.b").compile();
+     * filter.testPath("a/b/C.class") == true}</pre>
+     */
+    public Compiled compile() {
+        return new Compiled(this);
+    }
+
+    private Boolean test(Function<Predicate<String>, Boolean> function) {
         boolean accept = chain.isEmpty() || chain.get(0) instanceof Exclude;
 
         for (Predicate<String> filter : chain) {
             if (accept && filter instanceof Include) {continue;} //skip if this filter won't change
             if (!accept && filter instanceof Exclude) {continue;}
-            accept = filter.test(regex);
+            Boolean test = function.apply(filter);
+            if (test == null) return null;
+            accept = test;
             if (!accept && filter instanceof Exclude) {break;} //break on first exclusion
         }
         return accept;
@@ -127,9 +156,31 @@ public class FilterBuilder implements Predicate<String> {
         return fqn.replace(".", "\\.").replace("$", "\\$") + ".*";
     }
 
+    /** maps prefix pattern to its literal prefix, for example {@code literalPrefix("a\\.b\\..*") == "a.b."}, or null if not a prefix pattern */
+    @Nullable
+    static String literalPrefix(String regex) {
+        if (!regex.endsWith(".*")) return null;
+        int end = regex.length() - 2;
+        StringBuilder prefix = new StringBuilder(end);
+        for (int i = 0; i < end; i++) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                if (++i == end || Character.isLetterOrDigit(c = regex.charAt(i))) return null;
+            } else if ("^$.|?*+()[]{}".indexOf(c) != -1) return null;
+            prefix.append(c);
+        }
+        return prefix.toString();
+    }
+
     abstract static class Matcher implements Predicate<String> {
         final Pattern pattern;
-        Matcher(String regex) { pattern = Pattern.compile(regex); }
+        @Nullable final String prefix;
+        Matcher(String regex) { pattern = Pattern.compile(regex); prefix = literalPrefix(regex); }
+        @Nullable Boolean matchesPrefix(String value) {
+            if (prefix == null || !value.startsWith(prefix) && prefix.startsWith(value)) return null;
+            return value.startsWith(prefix);
+        }
+        abstract @Nullable Boolean testPrefix(String value);
         @Override public int hashCode() { return Objects.hash(pattern); }
         @Override public boolean equals(Object o) {
             return this == o || o != null && getClass() == o.getClass() && Objects.equals(pattern.pattern(), ((Matcher) o).pattern.pattern());
@@ -140,12 +191,157 @@ public class FilterBuilder implements Predicate<String> {
     static class Include extends Matcher {
         Include(String regex) { super(regex); }
         @Override public boolean test(String regex) { return pattern.matcher(regex).matches(); }
+        @Override Boolean testPrefix(String value) { return matchesPrefix(value); }
         @Override public String toString() { return "+" + pattern; }
     }
 
     static class Exclude extends Matcher {
         Exclude(String regex) { super(regex); }
         @Override public boolean test(String regex) { return !pattern.matcher(regex).matches(); }
+        @Override Boolean testPrefix(String value) { Boolean matches = matchesPrefix(value); return matches != null ? !matches : null; }
         @Override public String toString() { return "-" + pattern; }
     }
+
+    /**
+     * compiled {@link FilterBuilder}, equivalent to the filter chain but evaluated in a single pass:
+     * <ul>
+     *     <li>literal prefix patterns (such as package filters) are matched by walking a prefix trie once
+     *     <li>other patterns in adjacent includes or excludes are merged into a single alternation pattern
+     * </ul>
+     * use {@link #testPath(String)} to test a relative path {@code "a/b/C.class"}, equivalent to testing both the path and its fqn {@code "a.b.C.class"}, without allocating the latter
+     * <p><i>chains with custom predicates (other than include/exclude patterns) fall back to the original chain evaluation</i>
+     */
+    public static class Compiled implements Predicate<String> {
+        private static final int NONE = Integer.MAX_VALUE;
+
+        private final FilterBuilder source;
+        private final boolean compiled;
+        private final boolean acceptFirst;
+        private final Node trie = new Node();
+        private final List<Group> groups = new ArrayList<>();
+
+        private Compiled(FilterBuilder filter) {
+            source = new FilterBuilder(filter.chain);
+            compiled = source.chain.stream().allMatch(f -> f instanceof Include || f instanceof Exclude);
+            acceptFirst = source.chain.isEmpty() || source.chain.get(0) instanceof Exclude;
+            if (!compiled) return;
+
+            // adjacent includes (or excludes) are grouped, as matching any of the group is same as matching its first
+            List<String> regexes = new ArrayList<>();
+            for (Predicate<String> predicate : source.chain) {
+                Matcher matcher = (Matcher) predicate;
+                boolean include = matcher instanceof Include;
+                if (groups.isEmpty() || groups.get(groups.size() - 1).include != include) {
+                    if (!groups.isEmpty()) groups.get(groups.size() - 1).merge(regexes);
+                    groups.add(new Group(include));
+                }
+                Group group = groups.get(groups.size() - 1);
+                if (matcher.prefix != null) trie.add(matcher.prefix, 0).mark(groups.size() - 1, include);
+                else if (canMerge(matcher.pattern)) regexes.add(matcher.pattern.pattern());
+                else group.patterns.add(matcher.pattern);
+            }
+            if (!groups.isEmpty()) groups.get(groups.size() - 1).merge(regexes);
+        }
+
+        /** patterns with back references or named groups can't be merged, as group numbers would change and group names could clash */
+        private static boolean canMerge(Pattern pattern) {
+            return !pattern.pattern().matches("(?s).*(\\\\(\\d|k<)|\\(\\?<[a-zA-Z]).*");
+        }
+
+        /** tests the given fqn, same as {@link FilterBuilder#test(String)} */
+        @Override
+        public boolean test(String fqn) {
+            return compiled ? test(fqn, false) : source.test(fqn);
+        }
+
+        /** tests the given relative path such as {@code "a/b/C.class"}, same as {@code test(path) || test(path.replace('/', '.'))} */
+        public boolean testPath(String path) {
+            if (!compiled) return source.test(path) || source.test(path.replace('/', '.'));
+            return test(path, false) || path.indexOf('/') != -1 && test(path, true);
+        }
+
+        private boolean test(String value, boolean dots) {
+            CharSequence sequence = dots ? new DotPath(value) : value;
+            int include = NONE, exclude = -1;
+            Node node = trie;
+            for (int i = 0; node != null; i++) {
+                include = Math.min(include, node.include);
+                exclude = Math.max(exclude, node.exclude);
+                node = i < value.length() ? node.get(sequence.charAt(i)) : null;
+            }
+
+            int start = acceptFirst ? -1 : include;
+            for (int i = 0; i < Math.min(start, groups.size()); i++) {
+                if (groups.get(i).include && groups.get(i).matches(sequence)) start = i;
+            }
+            if (start == NONE || exclude > start) return false;
+            for (int i = groups.size() - 1; i > start; i--) {
+                if (!groups.get(i).include && groups.get(i).matches(sequence)) return false;
+            }
+            return true;
+        }
+
+        @Override public String toString() { return source.toString(); }
+
+        /** adjacent includes or excludes patterns, other than literal prefix patterns */
+        private static class Group {
+            private final boolean include;
+            private final List<Pattern> patterns = new ArrayList<>();
+
+            Group(boolean include) { this.include = include; }
+
+            void merge(List<String> regexes) {
+                if (regexes.size() == 1) patterns.add(Pattern.compile(regexes.get(0)));
+                else if (!regexes.isEmpty()) patterns.add(Pattern.compile(regexes.stream().map(r -> "(?:" + r + ")").collect(Collectors.joining("|"))));
+                regexes.clear();
+            }
+
+            boolean matches(CharSequence sequence) {
+                for (Pattern pattern : patterns) if (pattern.matcher(sequence).matches()) return true;
+                return false;
+            }
+        }
+
+        /** prefix trie node, marked with the first include group and last exclude group ending in it */
+        private static class Node {
+            private char[] chars = new char[0];
+            private Node[] nodes = new Node[0];
+            private int include = NONE, exclude = -1;
+
+            Node add(String prefix, int i) {
+                if (i == prefix.length()) return this;
+                Node node = get(prefix.charAt(i));
+                if (node == null) {
+                    chars = Arrays.copyOf(chars, chars.length + 1);
+                    nodes = Arrays.copyOf(nodes, nodes.length + 1);
+                    chars[chars.length - 1] = prefix.charAt(i);
+                    nodes[nodes.length - 1] = node = new Node();
+                }
+                return node.add(prefix, i + 1);
+            }
+
+            void mark(int group, boolean include) {
+                if (include) this.include = Math.min(this.include, group); else exclude = Math.max(exclude, group);
+            }
+
+            Node get(char c) {
+                for (int i = 0; i < chars.length; i++) if (chars[i] == c) return nodes[i];
+                return null;
+            }
+        }
+
+        /** relative path view with dots instead of slashes */
+        private static class DotPath implements CharSequence {
+            private final String path;
+            private final int offset, length;
+
+            DotPath(String path) { this(path, 0, path.length()); }
+            DotPath(String path, int offset, int length) { this.path = path; this.offset = offset; this.length = length; }
+
+            @Override public int length() { return length; }
+            @Override public char charAt(int index) { char c = path.charAt(offset + index); return c == '/' ? '.' : c; }
+            @Override public CharSequence subSequence(int start, int end) { return new DotPath(path, offset + start, end - start); }
+            @Override public String toString() { return path.substring(offset, offset + length).replace('/', '.'); }
+        }
+    }
 }
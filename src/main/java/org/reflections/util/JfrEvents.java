@@ -0,0 +1,58 @@
+package org.reflections.util;
+
+import javax.annotation.Nullable;
+import java.net.URL;
+
+/**
+ * Java Flight Recorder events for scan, expand super types, merge, collect, serializer read/write and query
+ * <pre>{@code JfrEvents.Span span = JfrEvents.scan(url);
+ * ...
+ * span.end(entries);}</pre>
+ * <p>this is a no-op on Java 8. on Java 11 and later, the multi release jar provides an implementation emitting {@code org.reflections.*} events in the {@code Reflections} category,
+ * which costs a single enabled check per event when not recording.
+ */
+public class JfrEvents {
+
+    /** event in progress, committed by {@link #end(long)}. {@link #NONE} if the event is not enabled, so that costly counts can be skipped */
+    public interface Span {
+        Span NONE = count -> {};
+
+        /** ends and commits the event, with the resulting {@code count} such as entries, values or result size */
+        void end(long count);
+    }
+
+    /** scanning the given {@code url}, ended with the number of entries produced */
+    public static Span scan(URL url) {
+        return Span.NONE;
+    }
+
+    /** expanding super types, ended with the number of sub types keys */
+    public static Span expandSuperTypes() {
+        return Span.NONE;
+    }
+
+    /** merging scanned entries, ended with the number of values */
+    public static Span merge() {
+        return Span.NONE;
+    }
+
+    /** collecting the given saved {@code resource}, ended with the number of values */
+    public static Span collect(String resource) {
+        return Span.NONE;
+    }
+
+    /** serializer {@code read} or {@code write} of the optional {@code path}, ended with the number of values */
+    public static Span serialize(String operation, Class<?> serializer, @Nullable String path) {
+        return Span.NONE;
+    }
+
+    /** evaluating a query, ended with the result size */
+    public static Span query() {
+        return Span.NONE;
+    }
+
+    /** looking up the given {@code key} in the store {@code index}, ended with the result size */
+    public static Span lookup(String index, String key) {
+        return Span.NONE;
+    }
+}
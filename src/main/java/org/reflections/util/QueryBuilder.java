@@ -18,7 +18,12 @@ public interface QueryBuilder extends NameHelper {
 	 * <p>safely returns an empty {@code Set<String>} if {@code index/key} not found
 	 * <p>this is the only function accessing the {@link Store} multimap */
 	default QueryFunction<Store, String> get(String key) {
-		return store -> new LinkedHashSet<>(store.getOrDefault(index(), Collections.emptyMap()).getOrDefault(key, Collections.emptySet()));
+		return store -> {
+			JfrEvents.Span span = JfrEvents.lookup(index(), key);
+			Set<String> result = new LinkedHashSet<>(store.getOrDefault(index(), Collections.emptyMap()).getOrDefault(key, Collections.emptySet()));
+			span.end(result.size());
+			return result;
+		};
 	}
 
 	// get/getAll/getAllIncluding
@@ -0,0 +1,252 @@
+package org.reflections.util;
+
+import org.reflections.ReflectionsException;
+
+import java.util.Collection;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * staged scan pipeline, reading, parsing and indexing inputs in separate stages connected by bounded queues
+ * <pre>{@code new ConfigurationBuilder()
+ *   .forPackage("com.my.project")
+ *   .setPipeline(new ScanPipeline(8, 4, 1, 512))}</pre>
+ * <p>readers open the urls and read the class files bytes, parsers parse and scan the class files, and indexers collect the scanned entries.
+ * each stage has its own parallelism, and a full queue blocks the upstream stage (backpressure), so that readers do not run ahead of parsers.
+ * <p>for example, use more readers for slow network mounted volumes, and parsers matching the available cpus for fast local disks.
+ * <p>queue depths are reported by {@link #getParseQueueDepth()} and {@link #getIndexQueueDepth()} while scanning,
+ * and the maximal depths reached by {@link #getMaxParseQueueDepth()} and {@link #getMaxIndexQueueDepth()}.
+ * <p>each run has its own queues, hence a pipeline can be shared by concurrent scans. depths are then summed over the running scans.
+ */
+public class ScanPipeline {
+    private static final Object END = new Object();
+
+    private final int readers;
+    private final int parsers;
+    private final int indexers;
+    private final int capacity;
+    private Executor executor;
+
+    private final Set<Run> running = ConcurrentHashMap.newKeySet();
+    private volatile Run last;
+
+    /** pipeline with one reader and one parser per available processor, a single indexer and queues of 1024 elements */
+    public ScanPipeline() {
+        this(Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().availableProcessors(), 1, 1024);
+    }
+
+    /** pipeline with the given stages parallelism, and queues {@code capacity} between stages */
+    public ScanPipeline(int readers, int parsers, int indexers, int capacity) {
+        if (readers < 1 || parsers < 1 || indexers < 1 || capacity < 1) {
+            throw new ReflectionsException("pipeline parallelism and capacity must be positive");
+        }
+        this.readers = readers;
+        this.parsers = parsers;
+        this.indexers = indexers;
+        this.capacity = capacity;
+    }
+
+    /** run the stages tasks on the given {@code executor} instead of on dedicated threads.
+     * <p><i>the executor must be able to run all readers, parsers and indexers concurrently, otherwise the pipeline might block</i> */
+    public ScanPipeline setExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * runs the pipeline over the given {@code inputs}, and returns once all inputs are read, parsed and indexed
+     * <p>{@code read} is applied to each input and may emit any number of elements to be parsed,
+     * {@code parse} is applied to each of these and may emit any number of elements to be indexed, which are passed to {@code index}.
+     * <p>stage functions should handle their own exceptions, any other failure is thrown after the pipeline is done
+     */
+    public <I, R, P> void run(Collection<I> inputs, Stage<I, R> read, Stage<R, P> parse, Consumer<P> index) {
+        Queue<I> pending = new ConcurrentLinkedQueue<>(inputs);
+        Run run = new Run(capacity);
+        BlockingQueue<Object> parsing = run.parseQueue, indexing = run.indexQueue;
+        running.add(run);
+        last = run;
+        AtomicInteger readersLeft = new AtomicInteger(readers), parsersLeft = new AtomicInteger(parsers);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(readers + parsers + indexers);
+
+        ExecutorService service = executor == null ? Executors.newFixedThreadPool(readers + parsers + indexers, runnable -> {
+            Thread thread = new Thread(runnable, "reflections-scan");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        Executor executor = service != null ? service : this.executor;
+        try {
+            for (int i = 0; i < readers; i++) {
+                executor.execute(() -> {
+                    try {
+                        Consumer<R> output = element -> put(parsing, element, run.maxParseQueueDepth, run);
+                        for (I input; (input = pending.poll()) != null && !run.aborted; ) {
+                            try { read.accept(input, output); } catch (Throwable e) { failure.compareAndSet(null, e); }
+                        }
+                    } finally {
+                        try {
+                            if (readersLeft.decrementAndGet() == 0) end(parsing, parsers, run);
+                        } finally {
+                            done.countDown();
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < parsers; i++) {
+                executor.execute(() -> {
+                    try {
+                        Consumer<P> output = element -> put(indexing, element, run.maxIndexQueueDepth, run);
+                        ScanPipeline.<R>drain(parsing, (element, none) -> parse.accept(element, output), failure, run);
+                    } finally {
+                        try {
+                            if (parsersLeft.decrementAndGet() == 0) end(indexing, indexers, run);
+                        } finally {
+                            done.countDown();
+                        }
+                    }
+                });
+            }
+            for (int i = 0; i < indexers; i++) {
+                executor.execute(() -> {
+                    try {
+                        ScanPipeline.<P>drain(indexing, (element, none) -> index.accept(element), failure, run);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } catch (InterruptedException e) {
+            run.aborted = true; // the stages tasks exit on their next poll, and might still be running on the given executor
+            parsing.clear();
+            indexing.clear();
+            Thread.currentThread().interrupt();
+            throw new ReflectionsException("scan pipeline interrupted", e);
+        } finally {
+            if (service != null) service.shutdownNow();
+            running.remove(run);
+        }
+        if (failure.get() != null) throw new ReflectionsException("scan pipeline failed", failure.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void drain(BlockingQueue<Object> queue, Stage<T, Void> stage, AtomicReference<Throwable> failure, Run run) {
+        for (Object element; (element = take(queue, run)) != END; ) {
+            try { stage.accept((T) element, null); } catch (Throwable e) { failure.compareAndSet(null, e); }
+        }
+    }
+
+    /** next element of the {@code queue}, or END if interrupted or once the run is aborted */
+    private static Object take(BlockingQueue<Object> queue, Run run) {
+        try {
+            for (Object element; !run.aborted; ) {
+                if ((element = queue.poll(10, TimeUnit.MILLISECONDS)) != null) return element;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return END;
+    }
+
+    /** puts the {@code element} to the {@code queue}, waiting for space unless interrupted or once the run is aborted */
+    private static void put(BlockingQueue<Object> queue, Object element, AtomicInteger maxDepth, Run run) {
+        try {
+            while (!queue.offer(element, 10, TimeUnit.MILLISECONDS)) {
+                if (run.aborted) throw new ReflectionsException("scan pipeline aborted");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReflectionsException("scan pipeline interrupted", e);
+        }
+        maxDepth.accumulateAndGet(queue.size(), Math::max);
+    }
+
+    /** signals the end of inputs to the {@code count} consumers of the {@code queue}, even if interrupted, unless the run is aborted */
+    private static void end(BlockingQueue<Object> queue, int count, Run run) {
+        boolean interrupted = false;
+        for (int i = 0; i < count && !run.aborted; ) {
+            try {
+                if (queue.offer(END, 10, TimeUnit.MILLISECONDS)) i++;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    public int getReaders() {
+        return readers;
+    }
+
+    public int getParsers() {
+        return parsers;
+    }
+
+    public int getIndexers() {
+        return indexers;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** current number of elements read and waiting to be parsed, or 0 if not running */
+    public int getParseQueueDepth() {
+        return running.stream().mapToInt(run -> run.parseQueue.size()).sum();
+    }
+
+    /** current number of elements parsed and waiting to be indexed, or 0 if not running */
+    public int getIndexQueueDepth() {
+        return running.stream().mapToInt(run -> run.indexQueue.size()).sum();
+    }
+
+    /** maximal number of elements waiting to be parsed during the last started run */
+    public int getMaxParseQueueDepth() {
+        Run run = last;
+        return run != null ? run.maxParseQueueDepth.get() : 0;
+    }
+
+    /** maximal number of elements waiting to be indexed during the last started run */
+    public int getMaxIndexQueueDepth() {
+        Run run = last;
+        return run != null ? run.maxIndexQueueDepth.get() : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ScanPipeline{readers=%d, parsers=%d, indexers=%d, capacity=%d, maxParseQueueDepth=%d, maxIndexQueueDepth=%d}",
+            readers, parsers, indexers, capacity, getMaxParseQueueDepth(), getMaxIndexQueueDepth());
+    }
+
+    /** queues and statistics of a single run */
+    private static class Run {
+        final BlockingQueue<Object> parseQueue;
+        final BlockingQueue<Object> indexQueue;
+        final AtomicInteger maxParseQueueDepth = new AtomicInteger();
+        final AtomicInteger maxIndexQueueDepth = new AtomicInteger();
+        volatile boolean aborted;
+
+        Run(int capacity) {
+            parseQueue = new ArrayBlockingQueue<>(capacity);
+            indexQueue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+
+    /** pipeline stage function, accepting an element and emitting any number of elements to the next stage */
+    @FunctionalInterface
+    public interface Stage<T, O> {
+        void accept(T element, Consumer<O> output) throws Exception;
+    }
+}
@@ -34,4 +34,9 @@ public class JbossFile implements Vfs.File {
     public InputStream openInputStream() throws IOException {
         return virtualFile.openStream();
     }
+
+    @Override
+    public long getSize() {
+        return virtualFile.getSize();
+    }
 }
@@ -4,8 +4,18 @@ import org.reflections.ReflectionsException;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /*
  * An implementation of {@link org.reflections.vfs.Vfs.Dir} for directory {@link java.io.File}.
@@ -37,4 +47,59 @@ public class SystemDir implements Vfs.Dir {
             }
         };
     }
+
+    /** walks the directory tree lazily, skipping sub trees of rejected directories */
+    public Iterable<Vfs.File> getFiles(Predicate<String> dirFilter) {
+        if (file == null || !file.exists()) return Collections.emptyList();
+        return () -> new PrunedWalk(file.toPath(), dirFilter);
+    }
+
+    /** depth first walk listing a single directory at a time, so that memory is proportional to the directories depth and size rather than to the whole tree */
+    private class PrunedWalk implements Iterator<Vfs.File> {
+        private final Path root;
+        private final Predicate<String> dirFilter;
+        private final Deque<Iterator<Path>> dirs = new ArrayDeque<>();
+        private Vfs.File next;
+
+        PrunedWalk(Path root, Predicate<String> dirFilter) {
+            this.root = root;
+            this.dirFilter = dirFilter;
+            enter(root);
+        }
+
+        private void enter(Path dir) {
+            String relativePath = root.relativize(dir).toString().replace("\\", "/");
+            if (!dirFilter.test(relativePath.isEmpty() ? "" : relativePath + "/")) return;
+            List<Path> paths = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                stream.forEach(paths::add);
+            } catch (IOException e) {
+                throw new ReflectionsException("could not get files for " + dir, e);
+            }
+            dirs.push(paths.iterator());
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !dirs.isEmpty()) {
+                Iterator<Path> paths = dirs.peek();
+                if (!paths.hasNext()) {
+                    dirs.pop();
+                    continue;
+                }
+                Path path = paths.next();
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) enter(path);
+                else if (Files.isRegularFile(path)) next = new SystemFile(SystemDir.this, path.toFile());
+            }
+            return next != null;
+        }
+
+        @Override
+        public Vfs.File next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Vfs.File file = next;
+            next = null;
+            return file;
+        }
+    }
 }
@@ -35,6 +35,11 @@ public class SystemFile implements Vfs.File {
         }
     }
 
+    @Override
+    public long getSize() {
+        return file.length();
+    }
+
     @Override
     public String toString() {
         return file.toString();
@@ -59,6 +59,15 @@ public abstract class Vfs {
     public interface Dir extends AutoCloseable {
         String getPath();
         Iterable<File> getFiles();
+
+        /** files in directories accepted by {@code dirFilter}, where rejecting a relative directory path such as {@code "a/b/"} rejects its sub directories as well.
+         * <p>implementations may skip reading rejected directories altogether */
+        default Iterable<File> getFiles(Predicate<String> dirFilter) {
+            return () -> StreamSupport.stream(getFiles().spliterator(), false)
+                .filter(file -> dirFilter.test(dirPath(file.getRelativePath())))
+                .iterator();
+        }
+
         default void close() {}
     }
 
@@ -67,6 +76,9 @@ public abstract class Vfs {
         String getName();
         String getRelativePath();
         InputStream openInputStream() throws IOException;
+
+        /** the file size in bytes if known, otherwise -1 */
+        default long getSize() { return -1; }
     }
 
     /** a matcher and factory for a url */
@@ -187,6 +199,11 @@ public abstract class Vfs {
         return null;
     }
 
+    /** relative directory path of the given relative file path, including trailing slash, for example {@code dirPath("a/b/C.class") == "a/b/"} */
+    public static String dirPath(String relativePath) {
+        return relativePath.substring(0, relativePath.lastIndexOf('/') + 1);
+    }
+
     private static boolean hasJarFileInPath(URL url) {
         return url.toExternalForm().matches(".*\\.jar(!.*|$)");
     }
@@ -3,7 +3,11 @@ package org.reflections.vfs;
 import org.reflections.Reflections;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 /** an implementation of {@link org.reflections.vfs.Vfs.Dir} for {@link java.util.zip.ZipFile} */
 public class ZipDir implements Vfs.Dir {
@@ -24,6 +28,20 @@ public class ZipDir implements Vfs.Dir {
                 .iterator();
     }
 
+    /** filters directories using the jar central directory, before iterating any entry. returns no files if all directories are rejected */
+    public Iterable<Vfs.File> getFiles(Predicate<String> dirFilter) {
+        Map<String, Boolean> dirs = jarFile.stream()
+                .filter(entry -> !entry.isDirectory())
+                .map(entry -> Vfs.dirPath(entry.getName()))
+                .distinct()
+                .collect(Collectors.toMap(dir -> dir, dirFilter::test));
+        if (!dirs.containsValue(true)) return Collections.emptyList();
+        return () -> jarFile.stream()
+                .filter(entry -> !entry.isDirectory() && dirs.get(Vfs.dirPath(entry.getName())))
+                .map(entry -> (Vfs.File) new ZipFile(ZipDir.this, entry))
+                .iterator();
+    }
+
     public void close() {
         try { jarFile.close(); } catch (IOException e) {
             if (Reflections.log != null) {
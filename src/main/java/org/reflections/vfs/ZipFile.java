@@ -27,6 +27,11 @@ public class ZipFile implements Vfs.File {
         return root.jarFile.getInputStream(entry);
     }
 
+    @Override
+    public long getSize() {
+        return entry.getSize();
+    }
+
     @Override
     public String toString() {
         return root.getPath() + "!" + java.io.File.separatorChar + entry.toString();
@@ -0,0 +1,176 @@
+package org.reflections.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import javax.annotation.Nullable;
+import java.net.URL;
+
+/**
+ * Java Flight Recorder events for scan, expand super types, merge, collect, serializer read/write and query
+ * <pre>{@code JfrEvents.Span span = JfrEvents.scan(url);
+ * ...
+ * span.end(entries);}</pre>
+ * <p>Java 11 multi release implementation, emitting {@code org.reflections.*} events in the {@code Reflections} category.
+ * each event costs a single enabled check when not recording, and nothing if the {@code jdk.jfr} module is not available.
+ */
+public class JfrEvents {
+    private static final boolean available = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    /** event in progress, committed by {@link #end(long)}. {@link #NONE} if the event is not enabled, so that costly counts can be skipped */
+    public interface Span {
+        Span NONE = count -> {};
+
+        /** ends and commits the event, with the resulting {@code count} such as entries, values or result size */
+        void end(long count);
+    }
+
+    /** scanning the given {@code url}, ended with the number of entries produced */
+    public static Span scan(URL url) {
+        if (!available || !Events.scan.isEnabled()) return Span.NONE;
+        ScanEvent event = new ScanEvent();
+        event.url = url.toExternalForm();
+        event.begin();
+        return event;
+    }
+
+    /** expanding super types, ended with the number of sub types keys */
+    public static Span expandSuperTypes() {
+        if (!available || !Events.expandSuperTypes.isEnabled()) return Span.NONE;
+        ExpandSuperTypesEvent event = new ExpandSuperTypesEvent();
+        event.begin();
+        return event;
+    }
+
+    /** merging scanned entries, ended with the number of values */
+    public static Span merge() {
+        if (!available || !Events.merge.isEnabled()) return Span.NONE;
+        MergeEvent event = new MergeEvent();
+        event.begin();
+        return event;
+    }
+
+    /** collecting the given saved {@code resource}, ended with the number of values */
+    public static Span collect(String resource) {
+        if (!available || !Events.collect.isEnabled()) return Span.NONE;
+        CollectEvent event = new CollectEvent();
+        event.resource = resource;
+        event.begin();
+        return event;
+    }
+
+    /** serializer {@code read} or {@code write} of the optional {@code path}, ended with the number of values */
+    public static Span serialize(String operation, Class<?> serializer, @Nullable String path) {
+        if (!available || !Events.serialize.isEnabled()) return Span.NONE;
+        SerializeEvent event = new SerializeEvent();
+        event.operation = operation;
+        event.serializer = serializer;
+        event.path = path;
+        event.begin();
+        return event;
+    }
+
+    /** evaluating a query, ended with the result size */
+    public static Span query() {
+        if (!available || !Events.query.isEnabled()) return Span.NONE;
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        return event;
+    }
+
+    /** looking up the given {@code key} in the store {@code index}, ended with the result size */
+    public static Span lookup(String index, String key) {
+        if (!available || !Events.lookup.isEnabled()) return Span.NONE;
+        LookupEvent event = new LookupEvent();
+        event.index = index;
+        event.key = key;
+        event.begin();
+        return event;
+    }
+
+    /** event types, loaded only if the {@code jdk.jfr} module is available */
+    private static class Events {
+        static final EventType scan = EventType.getEventType(ScanEvent.class);
+        static final EventType expandSuperTypes = EventType.getEventType(ExpandSuperTypesEvent.class);
+        static final EventType merge = EventType.getEventType(MergeEvent.class);
+        static final EventType collect = EventType.getEventType(CollectEvent.class);
+        static final EventType serialize = EventType.getEventType(SerializeEvent.class);
+        static final EventType query = EventType.getEventType(QueryEvent.class);
+        static final EventType lookup = EventType.getEventType(LookupEvent.class);
+    }
+
+    @Category("Reflections")
+    private abstract static class CountEvent extends Event implements Span {
+        @Label("Count")
+        long count;
+
+        @Override
+        public void end(long count) {
+            this.count = count;
+            commit();
+        }
+    }
+
+    @Name("org.reflections.Scan")
+    @Label("Scan Url")
+    @Description("scanning a url, with the number of entries produced")
+    private static class ScanEvent extends CountEvent {
+        @Label("Url")
+        String url;
+    }
+
+    @Name("org.reflections.ExpandSuperTypes")
+    @Label("Expand Super Types")
+    @Description("expanding super types which were not scanned, with the number of sub types keys")
+    private static class ExpandSuperTypesEvent extends CountEvent {
+    }
+
+    @Name("org.reflections.Merge")
+    @Label("Merge")
+    @Description("merging scanned entries into the store, with the number of values")
+    private static class MergeEvent extends CountEvent {
+    }
+
+    @Name("org.reflections.Collect")
+    @Label("Collect Resource")
+    @Description("collecting a saved resource, with the number of values")
+    private static class CollectEvent extends CountEvent {
+        @Label("Resource")
+        String resource;
+    }
+
+    @Name("org.reflections.Serialize")
+    @Label("Serialize")
+    @Description("serializer read or write, with the number of values")
+    private static class SerializeEvent extends CountEvent {
+        @Label("Operation")
+        String operation;
+
+        @Label("Serializer")
+        Class<?> serializer;
+
+        @Label("Path")
+        String path;
+    }
+
+    @Name("org.reflections.Query")
+    @Label("Query")
+    @Description("evaluating a query, with the result size")
+    private static class QueryEvent extends CountEvent {
+    }
+
+    @Name("org.reflections.Lookup")
+    @Label("Index Lookup")
+    @Description("looking up a key in a store index, with the result size")
+    private static class LookupEvent extends CountEvent {
+        @Label("Index")
+        String index;
+
+        @Label("Key")
+        String key;
+    }
+}
@@ -0,0 +1,85 @@
+package org.reflections;
+
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.annotation.Annotation;
+import org.junit.jupiter.api.Test;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ClassHeader;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.Resources;
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+public class ClassHeaderTest {
+
+    /** class file bytes of the given class name, annotated with the given annotation name */
+    static byte[] classFile(String name, String annotation) throws IOException {
+        ClassFile classFile = new ClassFile(false, name, null);
+        ConstPool constPool = classFile.getConstPool();
+        AnnotationsAttribute attribute = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        attribute.addAnnotation(new Annotation(annotation, constPool));
+        classFile.addAttribute(attribute);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        classFile.write(new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void modifiedUtf8Names() throws IOException {
+        // supplementary characters are encoded as surrogate pairs, and NUL as two bytes in class files
+        String name = "my.package.Class\uD835\uDD18", annotation = "my.package.Annotation\u0000";
+        byte[] bytes = classFile(name, annotation);
+
+        ClassHeader header = ClassHeader.read(bytes, bytes.length);
+        assertEquals(name, header.getName());
+        assertEquals("java.lang.Object", header.getSuperclass());
+        assertEquals(Collections.singletonList(annotation), header.getAnnotations());
+    }
+
+    @Test
+    public void asciiNames() throws IOException {
+        byte[] bytes = classFile("my.package.Class", "my.package.Annotation");
+        ClassHeader header = ClassHeader.read(bytes, bytes.length);
+        assertEquals("my.package.Class", header.getName());
+        assertEquals(0, header.getInterfaces().length);
+        assertEquals(Arrays.asList("my.package.Annotation"), header.getAnnotations());
+    }
+
+    @Test
+    public void sameAsClassFile() {
+        ConfigurationBuilder configuration = new ConfigurationBuilder()
+            .addUrls(ClasspathHelper.forClass(TestModel.class), ClasspathHelper.forClass(javassist.bytecode.ClassFile.class))
+            .setExpandSuperTypes(false);
+
+        Store header = new Reflections(configuration.setScanners(SubTypes, TypesAnnotated)).getStore();
+        Store classFile = new Reflections(configuration.setScanners(SubTypes, TypesAnnotated, Scanners.MethodsReturn)).getStore();
+
+        assertFalse(header.get(SubTypes.index()).isEmpty());
+        assertEquals(classFile.get(SubTypes.index()), header.get(SubTypes.index()));
+        assertEquals(classFile.get(TypesAnnotated.index()), header.get(TypesAnnotated.index()));
+    }
+
+    @Test
+    public void scanWithResources() {
+        assertFalse(Resources.acceptsHeader());
+        ConfigurationBuilder configuration = new ConfigurationBuilder()
+            .forPackage("org.reflections")
+            .filterInputsBy(new FilterBuilder().includePackage("org.reflections"));
+        Reflections headerOnly = new Reflections(configuration.setScanners(SubTypes, TypesAnnotated));
+        Reflections withResources = new Reflections(configuration.setScanners(SubTypes, TypesAnnotated, Resources));
+        assertEquals(headerOnly.getStore().get(SubTypes.index()), withResources.getStore().get(SubTypes.index()));
+        assertEquals(headerOnly.getStore().get(TypesAnnotated.index()), withResources.getStore().get(TypesAnnotated.index()));
+    }
+}
@@ -3,15 +3,23 @@ package org.reflections;
 import org.junit.jupiter.api.Test;
 import org.reflections.util.ClasspathHelper;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * Test ClasspathHelper utility class
@@ -33,4 +41,25 @@ public final class ClasspathHelperTest {
         assertArrayEquals(urls1, resultUrls1.toArray(), "URLs returned from forClassLoader should be in the same order as source URLs");
         assertArrayEquals(urls2, resultUrls2.toArray(), "URLs returned from forClassLoader should be in the same order as source URLs");
     }
+
+    @Test
+    public void testForPackageMultiReleaseJar() throws Exception {
+        File jar = File.createTempFile("multi-release", ".jar");
+        jar.deleteOnExit();
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(new Attributes.Name("Multi-Release"), "true");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar.toPath()), manifest)) {
+            for (String name : Arrays.asList("my/", "my/pkg/", "my/pkg/a.txt", "META-INF/versions/11/my/", "META-INF/versions/11/my/pkg/", "META-INF/versions/11/my/pkg/a.txt")) {
+                out.putNextEntry(new JarEntry(name));
+                out.closeEntry();
+            }
+        }
+
+        // versioned directories resolve to the jar root, rather than to META-INF/versions
+        URL root = new URL("jar:" + jar.toURI().toURL().toExternalForm() + "!/");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toURI().toURL()}, null)) {
+            assertEquals(Collections.singletonList(root), new ArrayList<>(ClasspathHelper.forPackage("my.pkg", classLoader)));
+        }
+    }
 }
@@ -0,0 +1,49 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.Resources;
+import static org.reflections.scanners.Scanners.SubTypes;
+
+public class CompositeStoreTest {
+
+    @Test
+    public void queryUnion() {
+        Store core = new Store(), plugin = new Store();
+        core.put(SubTypes.index(), new HashMap<>());
+        core.get(SubTypes.index()).put("my.A", new HashSet<>(Collections.singleton("my.B")));
+        plugin.put(SubTypes.index(), new HashMap<>());
+        plugin.get(SubTypes.index()).put("my.A", new HashSet<>(Collections.singleton("my.D")));
+        plugin.get(SubTypes.index()).put("my.B", new HashSet<>(Collections.singleton("my.C")));
+        Reflections pluginReflections = new Reflections(plugin);
+        CompositeStore composite = CompositeStore.of(new Reflections(core), pluginReflections);
+
+        // transitive across stores, without copying
+        Reflections reflections = new Reflections(composite);
+        assertEquals(new HashSet<>(Arrays.asList("my.B", "my.C", "my.D")), reflections.get(SubTypes.of("my.A")));
+        assertSame(plugin.get(SubTypes.index()).get("my.B"), composite.get(SubTypes.index()).get("my.B"));
+        assertEquals(new Reflections(core).merge(new Reflections(plugin)).getStore(), composite);
+        assertThrows(UnsupportedOperationException.class, () -> composite.put(Resources.index(), new HashMap<>()));
+        assertThrows(UnsupportedOperationException.class, () -> composite.computeIfPresent(SubTypes.index(), (index, map) -> null));
+        assertThrows(UnsupportedOperationException.class, () -> composite.replace(SubTypes.index(), new HashMap<>()));
+        assertThrows(UnsupportedOperationException.class, () -> composite.replaceAll((index, map) -> map));
+        assertThrows(UnsupportedOperationException.class, () -> composite.remove(SubTypes.index(), composite.get(SubTypes.index())));
+        assertTrue(composite.containsValue(composite.get(SubTypes.index())));
+        assertEquals(composite, composite.clone());
+
+        // members are swapped independently
+        CompositeStore snapshot = composite.snapshot();
+        Store other = new Store();
+        other.put(SubTypes.index(), new HashMap<>());
+        other.get(SubTypes.index()).put("my.C", new HashSet<>(Collections.singleton("my.E")));
+        pluginReflections.merge(new Reflections(other));
+        assertTrue(reflections.get(SubTypes.of("my.A")).contains("my.E"));
+        assertFalse(new Reflections(snapshot).get(SubTypes.of("my.A")).contains("my.E"));
+    }
+}
@@ -0,0 +1,53 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.ConstantPool;
+import org.reflections.util.FilterBuilder;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.ReflectionUtilsTest.toStringSorted;
+import static org.reflections.scanners.Scanners.SubTypes;
+
+public class ConstantPoolTest {
+
+    @Test
+    public void referencingModifiedUtf8() throws IOException {
+        String annotation = "my.package.Annotation\uD835\uDD18\u0000";
+        byte[] bytes = ClassHeaderTest.classFile("my.package.Class", annotation);
+        ConstantPool pool = new ConstantPool(bytes, bytes.length);
+
+        assertTrue(ConstantPool.referencing(Collections.singletonList(annotation)).test(pool));
+        assertFalse(ConstantPool.referencing(Collections.singletonList("my.package.Annotation")).test(pool));
+    }
+
+    @Test
+    public void referencingClassName() throws IOException {
+        byte[] bytes = ClassHeaderTest.classFile("my.package.Class", "my.package.Annotation");
+        ConstantPool pool = new ConstantPool(bytes, bytes.length);
+
+        Predicate<ConstantPool> referencing = ConstantPool.referencing(Collections.singletonList("java.lang.Object"));
+        assertTrue(referencing.test(pool));
+        assertFalse(ConstantPool.referencing(Collections.singletonList("java.lang.String")).test(pool));
+    }
+
+    @Test
+    public void scanReferencedTypes() {
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+            .forPackage("org.reflections")
+            .filterInputsBy(new FilterBuilder().includePattern("org\\.reflections\\.TestModel\\$.*"))
+            .setReferencedTypes(TestModel.AC2.class)
+            .setExpandSuperTypes(false));
+
+        assertEquals(toStringSorted(reflections.get(Scanners.TypesAnnotated.get(TestModel.AC2.class))),
+            "[org.reflections.TestModel$AC3, org.reflections.TestModel$C2, org.reflections.TestModel$C3, org.reflections.TestModel$I3]");
+        assertEquals(toStringSorted(reflections.get(SubTypes.get(TestModel.C1.class))),
+            "[org.reflections.TestModel$C2, org.reflections.TestModel$C3]");
+        assertTrue(reflections.get(SubTypes.get(TestModel.I2.class)).isEmpty());
+    }
+}
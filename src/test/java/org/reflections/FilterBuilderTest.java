@@ -3,7 +3,12 @@ package org.reflections;
 import org.junit.jupiter.api.Test;
 import org.reflections.util.FilterBuilder;
 
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FilterBuilderTest {
@@ -16,6 +21,7 @@ public class FilterBuilderTest {
             .includePackage("org.foo");
 
         doAssert(filter);
+        doAssert(filter.compile());
     }
 
     @Test
@@ -34,9 +40,65 @@ public class FilterBuilderTest {
             .includePattern("org\\.foo\\..*");
 
         doAssert(filter);
+        doAssert(filter.compile());
+    }
+
+    @Test
+    public void compiled() {
+        FilterBuilder filter = new FilterBuilder()
+            .excludePattern(".*\\.txt")
+            .includePackage("org.reflections")
+            .includePattern(".*Model\\$.*")
+            .excludePackage("org.reflections.exclude")
+            .excludePattern(".*Test.*")
+            .includePattern(".*\\.xml");
+        FilterBuilder.Compiled compiled = filter.compile();
+
+        for (String path : Arrays.asList("", "a.txt", "org/reflections/A.class", "org/reflections/exclude/A.class",
+            "org/reflections/ATest.class", "org/foo/TestModel$C1.class", "org/foo/Model$C1.class", "META-INF/a.xml",
+            "org/reflections/exclude/a.xml", "org/reflections/exclude/Model$C1.class", "org/reflections.txt")) {
+            String fqn = path.replace('/', '.');
+            assertEquals(filter.test(fqn), compiled.test(fqn), fqn);
+            assertEquals(filter.test(path) || filter.test(fqn), compiled.testPath(path), path);
+        }
+    }
+
+    @Test
+    public void compiledNamedGroups() {
+        FilterBuilder filter = new FilterBuilder()
+            .includePattern("(?<name>.*)\\.xml")
+            .includePattern("(?<name>.*)\\.json")
+            .includePattern("(?<ext>[a-z]+)\\.\\k<ext>");
+        FilterBuilder.Compiled compiled = filter.compile();
+
+        for (String fqn : Arrays.asList("a.xml", "a.json", "a.txt", "txt.txt", "txt.xm")) {
+            assertEquals(filter.test(fqn), compiled.test(fqn), fqn);
+        }
+    }
+
+    @Test
+    public void testPrefix() {
+        FilterBuilder filter = new FilterBuilder()
+            .includePackage("org.reflections")
+            .excludePackage("org.reflections.exclude")
+            .includePackage("org.foo");
+
+        assertNull(filter.testPrefix("org.reflections."));
+        assertEquals(true, filter.testPrefix("org.reflections.foo."));
+        assertEquals(false, filter.testPrefix("org.reflections.exclude."));
+        assertEquals(false, filter.testPrefix("org.bar."));
+        assertEquals(false, filter.testPrefix("org/reflections/"));
+        assertNull(filter.testPrefix(""));
+        assertNull(filter.testPrefix("org."));
+        assertNull(filter.testPrefix("org.reflections.ex"));
+
+        assertEquals(true, new FilterBuilder().testPrefix("org."));
+        assertEquals(true, new FilterBuilder().excludePackage("org.foo").testPrefix("org.reflections."));
+        assertEquals(false, new FilterBuilder().includePattern("org\\.reflections\\.TestModel\\$.*").testPrefix("org.foo."));
+        assertNull(new FilterBuilder().includePattern("org\\.reflections\\..*Model").testPrefix("org.reflections."));
     }
 
-    private void doAssert(FilterBuilder filter) {
+    private void doAssert(Predicate<String> filter) {
         assertFalse(filter.test(""));
         assertFalse(filter.test("org"));
         assertFalse(filter.test("org."));
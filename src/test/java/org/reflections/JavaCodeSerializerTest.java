@@ -16,7 +16,7 @@ public class JavaCodeSerializerTest implements NameHelper {
 			filterBuilder);
 
 		String filename = ReflectionsTest.getUserDir() + "/src/test/java/org.reflections.MyTestModelStore";
-		reflections.save(filename, new JavaCodeSerializer());
+		reflections.save(filename, new JavaCodeSerializer().setCanonical(true));
 	}
 
 	@Test
@@ -0,0 +1,54 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.MethodsAnnotated;
+import static org.reflections.scanners.Scanners.SubTypes;
+
+public class ReflectionsAsyncTest {
+
+    @Test
+    public void publishIndexesEarly() throws Exception {
+        CountDownLatch scanning = new CountDownLatch(1), expanding = new CountDownLatch(1);
+        ConfigurationBuilder configuration = new ConfigurationBuilder()
+            .forPackage("org.reflections")
+            .filterInputsBy(new FilterBuilder().includePackage("org.reflections"))
+            .setScanners(SubTypes, MethodsAnnotated);
+        Reflections expected = new Reflections(configuration);
+        configuration.addScanListeners(new ScanListener() {
+            public void onScanStart(List<URL> urls) { await(scanning); }
+            public void onExpandSuperTypes(long nanos) { await(expanding); }
+        });
+
+        Reflections reflections = Reflections.async(configuration);
+        assertFalse(reflections.getScanFuture().isDone());
+        scanning.countDown();
+
+        // methods annotated index is published while super types are still being expanded
+        Set<String> methods = reflections.get(MethodsAnnotated.with(TestModel.AM1.class));
+        assertFalse(methods.isEmpty());
+        assertEquals(expected.get(MethodsAnnotated.with(TestModel.AM1.class)), methods);
+        assertFalse(reflections.getScanFuture().isDone());
+        expanding.countDown();
+
+        assertEquals(expected.get(SubTypes.of(TestModel.C1.class)), reflections.get(SubTypes.of(TestModel.C1.class)));
+        assertSame(reflections, reflections.getScanFuture().get(10, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) throw new IllegalStateException("timeout");
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,12 +1,39 @@
 package org.reflections;
 
+import com.google.gson.GsonBuilder;
+import org.dom4j.Document;
+import org.dom4j.DocumentFactory;
+import org.dom4j.Element;
+import org.dom4j.io.OutputFormat;
+import org.dom4j.io.XMLWriter;
 import org.junit.jupiter.api.Test;
 import org.reflections.scanners.Scanners;
 import org.reflections.serializers.JsonSerializer;
+import org.reflections.serializers.Serializer;
+import org.reflections.serializers.XmlSerializer;
 import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.FilterBuilder;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.reflections.ReflectionsTest.getUserDir;
 
 public class ReflectionsCollectTest {
@@ -35,4 +62,126 @@ public class ReflectionsCollectTest {
 			Reflections.collect("/META-INF/reflections/testModel-reflections.json", a -> true).getStore(),
 			Reflections.collect("/META-INF/reflections/saved-testModel-reflections.json", a -> true).getStore());
 	}
+
+	@Test
+	public void testCollectMany() {
+		String targetDir = getUserDir() + "/target/test-classes";
+		Store expected = new Store();
+		for (int i = 0; i < 20; i++) {
+			Store store = new Store();
+			store.put(Scanners.SubTypes.index(), new HashMap<>());
+			store.put("Index" + i % 3, new HashMap<>());
+			for (int j = 0; j < 10; j++) { // overlapping keys and values
+				Set<String> values = new HashSet<>(Arrays.asList("my.C" + i, "my.C" + (i + j) % 5));
+				store.get(Scanners.SubTypes.index()).put("my.A" + j, values);
+				expected.computeIfAbsent(Scanners.SubTypes.index(), k -> new HashMap<>()).computeIfAbsent("my.A" + j, k -> new HashSet<>()).addAll(values);
+			}
+			expected.putIfAbsent("Index" + i % 3, new HashMap<>());
+			new Reflections(store).save(targetDir + "/META-INF/reflections-many/" + i + "-reflections.index"); // not .xml, which other tests scan
+		}
+		assertEquals(expected, Reflections.collect("META-INF/reflections-many/", new FilterBuilder().includePattern(".*-reflections\\.index")).getStore());
+	}
+
+	@Test
+	public void testXmlFormat() throws Exception {
+		Store store = Reflections.collect("/META-INF/reflections/testModel-reflections.xml", a -> true).getStore();
+		store.put("Empty", new HashMap<>());
+		store.put("Escaped", new HashMap<>());
+		store.get("Escaped").put("a<b>&c", new HashSet<>(Arrays.asList("", "d\"e'")));
+		store.get("Escaped").put("none", new HashSet<>());
+		File file = new XmlSerializer().save(new Reflections(store), getUserDir() + "/target/xml-format-reflections.xml");
+
+		// same format as previously written by dom4j pretty print
+		Document document = DocumentFactory.getInstance().createDocument();
+		Element root = document.addElement("Reflections");
+		store.forEach((index, map) -> {
+			Element indexElement = root.addElement(index);
+			map.forEach((key, values) -> {
+				Element entryElement = indexElement.addElement("entry");
+				entryElement.addElement("key").setText(key);
+				Element valuesElement = entryElement.addElement("values");
+				values.forEach(value -> valuesElement.addElement("value").setText(value));
+			});
+		});
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		new XMLWriter(expected, OutputFormat.createPrettyPrint()).write(document);
+		assertEquals(expected.toString("UTF-8"), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+
+		try (InputStream inputStream = new FileInputStream(file)) {
+			assertEquals(store, new XmlSerializer().read(inputStream).getStore());
+		}
+	}
+
+	@Test
+	public void testJsonFormat() throws Exception {
+		Store store = Reflections.collect("/META-INF/reflections/testModel-reflections.json", a -> true, new JsonSerializer()).getStore();
+		store.put("Empty", new HashMap<>());
+		store.put("Escaped", new HashMap<>());
+		store.get("Escaped").put("a<b>&c", new HashSet<>(Arrays.asList("", "d\"e'")));
+		store.get("Escaped").put("none", new HashSet<>());
+		Reflections reflections = new Reflections(store);
+		File file = new JsonSerializer().save(reflections, getUserDir() + "/target/json-format-reflections.json");
+
+		// same format as previously written by gson
+		assertEquals(new GsonBuilder().setPrettyPrinting().create().toJson(reflections), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+		try (InputStream inputStream = new FileInputStream(file)) {
+			assertEquals(store, new JsonSerializer().read(inputStream).getStore());
+		}
+
+		File compact = new JsonSerializer(false).save(reflections, getUserDir() + "/target/json-compact-reflections.json");
+		assertEquals(1, Files.readAllLines(compact.toPath()).size());
+		assertTrue(compact.length() < file.length());
+		try (InputStream inputStream = new FileInputStream(compact)) {
+			assertEquals(store, new JsonSerializer().read(inputStream).getStore());
+		}
+	}
+
+	@Test
+	public void testCanonical() throws Exception {
+		Store store = new Store(), reversed = new Store();
+		store.put(Scanners.SubTypes.index(), new TreeMap<>());
+		reversed.put(Scanners.SubTypes.index(), new TreeMap<>(Comparator.reverseOrder()));
+		for (int i = 0; i < 10; i++) {
+			List<String> values = Arrays.asList("my.C" + i, "my.D" + i, "my.E" + i);
+			store.get(Scanners.SubTypes.index()).put("my.A" + i, new LinkedHashSet<>(values));
+			Collections.reverse(values);
+			reversed.get(Scanners.SubTypes.index()).put("my.A" + i, new LinkedHashSet<>(values));
+		}
+		String dir = getUserDir() + "/target/canonical/";
+		for (Serializer serializer : Arrays.asList(new XmlSerializer().setCanonical(true), new JsonSerializer().setCanonical(true))) {
+			File file = serializer.save(new Reflections(store), dir + "store");
+			File other = serializer.save(new Reflections(reversed), dir + "reversed");
+			assertArrayEquals(Files.readAllBytes(file.toPath()), Files.readAllBytes(other.toPath()));
+		}
+		assertNotEquals(
+			new String(Files.readAllBytes(new XmlSerializer().save(new Reflections(store), dir + "store").toPath()), StandardCharsets.UTF_8),
+			new String(Files.readAllBytes(new XmlSerializer().save(new Reflections(reversed), dir + "reversed").toPath()), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testCollectDelta() {
+		Reflections base = new Reflections(TestModel.class, Scanners.SubTypes, Scanners.TypesAnnotated);
+		Store other = new Store();
+		other.put(Scanners.SubTypes.index(), new HashMap<>());
+		other.get(Scanners.SubTypes.index()).put(TestModel.C1.class.getName(), new HashSet<>(Collections.singleton("my.C")));
+		other.get(Scanners.SubTypes.index()).put("my.C", new HashSet<>(Collections.singleton("my.D")));
+		other.put(Scanners.Resources.index(), new HashMap<>());
+		Reflections app = new Reflections(base.getStore()).merge(new Reflections(other));
+
+		Store delta = app.getStore().deltaFrom(base.getStore());
+		assertEquals(Collections.singleton("my.C"), delta.get(Scanners.SubTypes.index()).get(TestModel.C1.class.getName()));
+		assertEquals(new HashSet<>(Arrays.asList(TestModel.C1.class.getName(), "my.C")), delta.get(Scanners.SubTypes.index()).keySet());
+		assertEquals(new HashSet<>(Arrays.asList(Scanners.SubTypes.index(), Scanners.Resources.index())), delta.keySet());
+
+		Store baseCopy = new Store();
+		base.getStore().forEach((index, map) -> {
+			baseCopy.put(index, new HashMap<>());
+			map.forEach((key, values) -> baseCopy.get(index).put(key, new HashSet<>(values)));
+		});
+		app.save(getUserDir() + "/target/test-classes/META-INF/reflections-delta/app-reflections.index", new XmlSerializer(), base.getStore());
+		Reflections collected = Reflections.collect(base.getStore(), "META-INF/reflections-delta/",
+			new FilterBuilder().includePattern(".*-reflections\\.index"), new XmlSerializer());
+		assertEquals(app.getStore(), collected.getStore());
+		assertEquals(baseCopy, base.getStore());
+	}
 }
@@ -0,0 +1,94 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+public class ReflectionsRescanTest {
+
+    @Test
+    public void rescanAndRemoveUrls(@TempDir File temp) throws Exception {
+        SyntheticClasspath first = new SyntheticClasspath().classes(100).annotationDensity(0.5).seed(1);
+        SyntheticClasspath second = new SyntheticClasspath().classes(100).annotationDensity(0.5).seed(2);
+        URL jar = first.writeJar(new File(temp, "synthetic.jar"));
+        URL dir = second.writeDirectory(new File(temp, "synthetic"));
+
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+            .addUrls(jar, dir)
+            .setTrackProvenance(true));
+        Set<String> annotated = first.annotatedWith(0);
+        annotated.addAll(second.annotatedWith(0));
+        assertEquals(annotated, reflections.get(TypesAnnotated.with(first.annotationName(0))));
+        String type = first.annotatedWith(0).iterator().next();
+        URL file = Reflections.segment(dir, type.replace('.', '/') + ".class"); // directories are tracked per file
+        assertEquals(second.annotatedWith(0).contains(type) ? new HashSet<>(Arrays.asList(jar, file)) : Collections.singleton(jar),
+            reflections.getProvenance(TypesAnnotated, first.annotationName(0), type));
+
+        reflections.remove(jar);
+        assertEquals(second.annotatedWith(0), reflections.get(TypesAnnotated.with(first.annotationName(0))));
+        assertEquals(first.treeSize() - 1, reflections.get(SubTypes.of(first.className(0))).size());
+
+        SyntheticClasspath third = new SyntheticClasspath().classes(100).annotationDensity(0.5).seed(3);
+        third.writeDirectory(new File(temp, "synthetic"));
+        reflections.rescan(dir);
+        assertEquals(third.annotatedWith(0), reflections.get(TypesAnnotated.with(first.annotationName(0))));
+
+        reflections.remove(dir);
+        assertEquals(Collections.emptySet(), reflections.get(SubTypes.of(first.className(0))));
+    }
+
+    @Test
+    public void removeFilesWithinDirectory(@TempDir File temp) throws Exception {
+        SyntheticClasspath classpath = new SyntheticClasspath().classes(100).annotationDensity(0.5).seed(1);
+        URL dir = classpath.writeDirectory(new File(temp, "synthetic"));
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+            .addUrls(dir)
+            .setTrackProvenance(true)
+            .setExpandSuperTypes(false));
+
+        int leaf = classpath.getClasses() - 1, parent = classpath.parent(leaf);
+        URL file = Reflections.segment(dir, classpath.className(leaf).replace('.', '/') + ".class");
+        assertEquals(Collections.singleton(file), reflections.getProvenance(SubTypes, classpath.className(parent), classpath.className(leaf)));
+        Set<String> subTypes = reflections.get(SubTypes.of(classpath.className(parent)));
+        subTypes.remove(classpath.className(leaf));
+
+        reflections.remove(file);
+        assertFalse(reflections.get(SubTypes.get(classpath.className(parent))).contains(classpath.className(leaf)));
+        assertEquals(Collections.emptySet(), reflections.getProvenance(SubTypes, classpath.className(parent), classpath.className(leaf)));
+        assertEquals(subTypes, reflections.get(SubTypes.of(classpath.className(parent))));
+    }
+
+    @Test
+    public void keepMergedMetadataOnRescan(@TempDir File temp) throws Exception {
+        SyntheticClasspath classpath = new SyntheticClasspath().classes(20).annotationDensity(0.5).seed(1);
+        URL dir = classpath.writeDirectory(new File(temp, "synthetic"));
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+            .addUrls(dir)
+            .setTrackProvenance(true));
+        Store collected = new Store();
+        collected.put(TypesAnnotated.index(), new HashMap<>());
+        collected.get(TypesAnnotated.index()).put("my.Annotation", new HashSet<>(Collections.singleton("my.Type")));
+        reflections.merge(new Reflections(collected));
+
+        reflections.rescan(dir);
+        assertEquals(Collections.singleton("my.Type"), reflections.get(TypesAnnotated.with("my.Annotation")));
+        assertEquals(classpath.annotatedWith(0), reflections.get(TypesAnnotated.with(classpath.annotationName(0))));
+
+        reflections.remove(dir);
+        assertEquals(Collections.singleton("my.Type"), reflections.get(TypesAnnotated.with("my.Annotation")));
+        assertEquals(Collections.emptySet(), reflections.get(TypesAnnotated.with(classpath.annotationName(0))));
+    }
+}
@@ -0,0 +1,36 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+public class ScanCallbacksTest {
+
+    @Test
+    public void typeAnnotatedAndSubTypeCallbacks() throws Exception {
+        Set<String> annotated = ConcurrentHashMap.newKeySet(), subTypes = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+            .forPackage("org.reflections")
+            .filterInputsBy(new FilterBuilder().includePattern("org\\.reflections\\.TestModel\\$.*"))
+            .onTypeAnnotated(TestModel.AC1.class.getName(), annotated::add)
+            .onSubTypeOf(TestModel.C1.class.getName(), executor, subTypes::add));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertFalse(annotated.isEmpty());
+        assertEquals(reflections.getStore().get(TypesAnnotated.index()).get(TestModel.AC1.class.getName()), annotated);
+        assertFalse(subTypes.isEmpty());
+        assertEquals(reflections.getStore().get(SubTypes.index()).get(TestModel.C1.class.getName()), subTypes);
+    }
+}
@@ -0,0 +1,128 @@
+package org.reflections;
+
+import javassist.bytecode.ClassFile;
+import org.junit.jupiter.api.Test;
+import org.reflections.scanners.Scanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.reflections.util.ScanPipeline;
+
+import javax.annotation.Nullable;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.Resources;
+import static org.reflections.scanners.Scanners.SubTypes;
+
+public class ScanListenerTest {
+
+    /** listener throwing in every callback */
+    static class ThrowingListener implements ScanListener {
+        public void onScanStart(List<URL> urls) { throw new IllegalStateException(); }
+        public void onUrlStart(URL url) { throw new IllegalStateException(); }
+        public void onUrlEnd(URL url, long bytes, int entries, long nanos) { throw new IllegalStateException(); }
+        public void onEntries(Scanner scanner, List<Map.Entry<String, String>> entries) { throw new IllegalStateException(); }
+        public void onFailure(URL url, @Nullable String path, @Nullable Scanner scanner, Exception e) { throw new IllegalStateException(); }
+        public void onScannerTime(Scanner scanner, long nanos) { throw new IllegalStateException(); }
+        public void onMerge(int keys, int values, long nanos) { throw new IllegalStateException(); }
+        public void onExpandSuperTypes(long nanos) { throw new IllegalStateException(); }
+        public void onScanFailure(Throwable e) { throw new IllegalStateException(); }
+    }
+
+    /** listener recording the notified callbacks */
+    static class RecordingListener implements ScanListener {
+        final Set<String> events = ConcurrentHashMap.newKeySet();
+
+        public void onScanStart(List<URL> urls) { events.add("scanStart"); }
+        public void onUrlStart(URL url) { events.add("urlStart"); }
+        public void onUrlEnd(URL url, long bytes, int entries, long nanos) { events.add("urlEnd"); }
+        public void onEntries(Scanner scanner, List<Map.Entry<String, String>> entries) { events.add("entries"); }
+        public void onFailure(URL url, @Nullable String path, @Nullable Scanner scanner, Exception e) { events.add("failure"); }
+        public void onScannerTime(Scanner scanner, long nanos) { events.add("scannerTime"); }
+        public void onMerge(int keys, int values, long nanos) { events.add("merge"); }
+        public void onExpandSuperTypes(long nanos) { events.add("expandSuperTypes"); }
+        public void onScanFailure(Throwable e) { events.add("scanFailure"); }
+    }
+
+    /** scanner failing on every class file, with the given {@code exception} if not null, otherwise with the {@code error} */
+    static class FailingScanner implements Scanner {
+        final RuntimeException exception;
+        final Error error;
+
+        FailingScanner(RuntimeException exception, Error error) {
+            this.exception = exception;
+            this.error = error;
+        }
+
+        @Override
+        public List<Map.Entry<String, String>> scan(ClassFile classFile) {
+            if (exception != null) throw exception;
+            throw error;
+        }
+    }
+
+    private static ConfigurationBuilder configuration(Scanner failing, ScanListener... listeners) {
+        return new ConfigurationBuilder()
+            .setUrls(ClasspathHelper.forClass(TestModel.class))
+            .filterInputsBy(new FilterBuilder().includePattern("org\\.reflections\\.TestModel\\$.*"))
+            .setScanners(SubTypes, failing)
+            .addScanListeners(listeners);
+    }
+
+    @Test
+    public void throwingListener() {
+        RecordingListener recording = new RecordingListener();
+        Reflections reflections = new Reflections(configuration(new FailingScanner(new IllegalArgumentException(), null),
+            new ThrowingListener(), recording));
+
+        assertFalse(reflections.getStore().get(SubTypes.index()).isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("scanStart", "urlStart", "urlEnd", "entries", "failure", "scannerTime", "merge", "expandSuperTypes")),
+            recording.events);
+    }
+
+    @Test
+    public void throwingListenerOnScanFailure() {
+        RecordingListener recording = new RecordingListener();
+        assertThrows(AssertionError.class, () ->
+            new Reflections(configuration(new FailingScanner(null, new AssertionError("scan failure")), new ThrowingListener(), recording)));
+        assertTrue(recording.events.contains("scanFailure"));
+    }
+
+    @Test
+    public void listenerEvents() {
+        URL dir = ClasspathHelper.forClass(TestModel.class), jar = ClasspathHelper.forClass(javassist.bytecode.ClassFile.class);
+        for (ScanPipeline pipeline : Arrays.asList(null, new ScanPipeline(2, 2, 1, 16))) {
+            Map<URL, Long> bytes = new ConcurrentHashMap<>();
+            Set<URL> started = ConcurrentHashMap.newKeySet();
+            Map<Scanner, Long> times = new ConcurrentHashMap<>();
+            AtomicInteger entries = new AtomicInteger(), merged = new AtomicInteger(), expanded = new AtomicInteger();
+
+            new Reflections(new ConfigurationBuilder()
+                .addUrls(dir, jar)
+                .setScanners(SubTypes, Resources)
+                .setPipeline(pipeline)
+                .addScanListeners(new ScanListener() {
+                    public void onUrlStart(URL url) { started.add(url); }
+                    public void onUrlEnd(URL url, long b, int e, long nanos) { bytes.put(url, b); entries.addAndGet(e); }
+                    public void onScannerTime(Scanner scanner, long nanos) { times.put(scanner, nanos); }
+                    public void onMerge(int keys, int values, long nanos) { merged.set(values); }
+                    public void onExpandSuperTypes(long nanos) { expanded.incrementAndGet(); }
+                }));
+
+            assertEquals(new HashSet<>(Arrays.asList(dir, jar)), started);
+            assertEquals(started, bytes.keySet());
+            assertTrue(bytes.get(jar) > 0);
+            assertEquals(new HashSet<>(Arrays.asList(SubTypes, Resources)), times.keySet());
+            assertTrue(merged.get() > 0 && entries.get() >= merged.get());
+            assertEquals(1, expanded.get());
+        }
+    }
+}
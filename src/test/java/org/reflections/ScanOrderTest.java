@@ -0,0 +1,43 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanOrderTest {
+
+    @Test
+    public void largestFirst(@TempDir File temp) throws IOException {
+        File dir = new File(temp, "dir");
+        for (int i = 0; i < 3; i++) {
+            File file = new File(dir, "a/A" + i + ".class");
+            assertTrue(file.getParentFile().mkdirs() || file.getParentFile().isDirectory());
+            assertTrue(file.createNewFile());
+        }
+        File small = new File(temp, "small.jar"), large = new File(temp, "large.jar");
+        for (File jar : Arrays.asList(small, large)) {
+            try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(jar))) {
+                for (int i = 0; i < (jar == small ? 1 : 5); i++) {
+                    zip.putNextEntry(new ZipEntry("a/A" + i + ".class"));
+                    zip.write(new byte[jar == small ? 4096 : 1]); // ordered by entries, not bytes
+                    zip.closeEntry();
+                }
+            }
+        }
+        URL unknown = new URL("http://localhost/unknown.jar");
+
+        List<URL> urls = Arrays.asList(small.toURI().toURL(), dir.toURI().toURL(), large.toURI().toURL(), unknown);
+        assertEquals(Arrays.asList(unknown, urls.get(2), urls.get(1), urls.get(0)), Reflections.scanOrder(new LinkedHashSet<>(urls)));
+    }
+}
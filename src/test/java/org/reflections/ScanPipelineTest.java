@@ -0,0 +1,75 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.reflections.scanners.Scanners;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.ScanPipeline;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScanPipelineTest {
+
+    @Test
+    public void interruptedRunOnExecutor() throws Exception {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(4, 4, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        try {
+            ScanPipeline pipeline = new ScanPipeline(1, 1, 1, 1).setExecutor(executor);
+            CompletableFuture<Thread> caller = new CompletableFuture<>();
+            CompletableFuture<Void> run = CompletableFuture.runAsync(() -> {
+                caller.complete(Thread.currentThread());
+                pipeline.run(IntStream.range(0, 1000).boxed().collect(Collectors.toList()),
+                    (input, output) -> { for (int i = 0; i < 100; i++) output.accept(i); }, // readers fill the queues
+                    (element, output) -> { Thread.sleep(1); output.accept(element); },
+                    element -> {});
+            });
+
+            Thread.sleep(100);
+            assertTrue(executor.getActiveCount() > 0);
+            caller.get().interrupt();
+            ExecutionException e = assertThrows(ExecutionException.class, () -> run.get(10, TimeUnit.SECONDS));
+            assertEquals("scan pipeline interrupted", e.getCause().getMessage());
+
+            // readers blocked on the full queue, and parsers and indexers waiting for elements, all exit
+            for (long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10); executor.getActiveCount() > 0; Thread.sleep(10)) {
+                if (System.nanoTime() > end) fail("pipeline tasks still running after interrupt");
+            }
+            assertEquals(Collections.emptyList(), executor.shutdownNow());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void sameAsParallel() {
+        ConfigurationBuilder configuration = new ConfigurationBuilder()
+            .addUrls(ClasspathHelper.forClass(TestModel.class), ClasspathHelper.forClass(javassist.bytecode.ClassFile.class))
+            .setScanners(Scanners.values());
+
+        Store parallel = new Reflections(configuration).getStore();
+        ScanPipeline pipeline = new ScanPipeline(2, 3, 2, 4);
+        Store pipelined = new Reflections(configuration.setPipeline(pipeline)).getStore();
+
+        assertEquals(parallel, pipelined);
+        assertTrue(pipeline.getMaxParseQueueDepth() > 0 && pipeline.getMaxParseQueueDepth() <= 4);
+        assertEquals(0, pipeline.getParseQueueDepth());
+
+        // concurrent scans share the pipeline, each with its own queues
+        List<CompletableFuture<Store>> scans = Arrays.asList(
+            CompletableFuture.supplyAsync(() -> new Reflections(configuration).getStore()),
+            CompletableFuture.supplyAsync(() -> new Reflections(configuration).getStore()));
+        for (CompletableFuture<Store> scan : scans) assertEquals(parallel, scan.join());
+        assertEquals(0, pipeline.getParseQueueDepth() + pipeline.getIndexQueueDepth());
+    }
+}
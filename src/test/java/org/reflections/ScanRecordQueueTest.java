@@ -0,0 +1,59 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.SubTypes;
+
+public class ScanRecordQueueTest {
+
+    @Test
+    public void takeRecords() throws Exception {
+        ScanRecordQueue records = new ScanRecordQueue(1);
+        Reflections reflections = Reflections.async(new ConfigurationBuilder()
+            .forPackage("org.reflections")
+            .filterInputsBy(new FilterBuilder().includePattern("org\\.reflections\\.TestModel\\$.*"))
+            .addScanListeners(records));
+
+        ScanRecord first = records.take();
+        assertNotNull(first);
+        assertFalse(reflections.getScanFuture().isDone()); // throttled by the full queue
+
+        Map<String, Set<String>> subTypes = new HashMap<>();
+        for (ScanRecord record = first; record != null; record = records.take()) {
+            if (record.getScanner() == SubTypes) {
+                record.getEntries().forEach(e -> subTypes.computeIfAbsent(e.getKey(), k -> new HashSet<>()).add(e.getValue()));
+            }
+        }
+        assertTrue(records.isEnded());
+        assertNull(records.take());
+        reflections.getScanFuture().get(10, TimeUnit.SECONDS);
+        assertEquals(subTypes.get(TestModel.C1.class.getName()), reflections.getStore().get(SubTypes.index()).get(TestModel.C1.class.getName()));
+        assertNull(records.getFailure());
+
+        // a failed scan ends the queue too
+        ScanRecordQueue failed = new ScanRecordQueue(1);
+        Reflections failing = Reflections.async(new ConfigurationBuilder()
+            .forPackage("org.reflections")
+            .addScanListeners(failed, new ScanListener() {
+                @Override
+                public void onScanStart(List<URL> urls) {
+                    throw new AssertionError("scan failure"); // listener exceptions are logged, errors fail the scan
+                }
+            }));
+        assertNull(failed.take());
+        assertTrue(failed.isEnded());
+        assertEquals("scan failure", failed.getFailure().getMessage());
+        assertTrue(failing.getScanFuture().isCompletedExceptionally());
+    }
+}
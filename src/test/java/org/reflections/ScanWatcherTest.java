@@ -0,0 +1,59 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+public class ScanWatcherTest {
+
+    @Test
+    public void watchDirectory(@TempDir File temp) throws Exception {
+        SyntheticClasspath first = new SyntheticClasspath().classes(100).annotationDensity(0.5).seed(1);
+        URL dir = first.writeDirectory(temp);
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+            .addUrls(dir)
+            .setTrackProvenance(true));
+        assertEquals(first.annotatedWith(0), reflections.get(TypesAnnotated.with(first.annotationName(0))));
+
+        BlockingQueue<ScanWatcher.Change> changes = new LinkedBlockingQueue<>();
+        try (ScanWatcher watcher = new ScanWatcher(reflections).setBatchDelay(100).addListeners(changes::add).start()) {
+            assertEquals(Collections.singleton(dir), watcher.getUrls());
+            SyntheticClasspath second = new SyntheticClasspath().classes(100).annotationDensity(0.5).seed(2);
+            second.writeDirectory(temp);
+
+            Set<String> expected = second.annotatedWith(0);
+            for (long deadline = System.currentTimeMillis() + 10_000; !reflections.get(TypesAnnotated.with(first.annotationName(0))).equals(expected); ) {
+                ScanWatcher.Change change = changes.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+                assertNotNull(change, "timeout waiting for changes");
+                assertEquals(dir, change.getUrl());
+            }
+
+            int leaf = second.getClasses() - 1, parent = second.parent(leaf);
+            Map.Entry<String, String> entry = new AbstractMap.SimpleEntry<>(second.className(parent), second.className(leaf));
+            Files.delete(new File(temp, second.className(leaf).replace('.', '/') + ".class").toPath());
+            for (long deadline = System.currentTimeMillis() + 10_000; ; ) {
+                ScanWatcher.Change change = changes.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+                assertNotNull(change, "timeout waiting for changes");
+                if (change.getRemoved().getOrDefault(SubTypes.index(), Collections.emptySet()).contains(entry)) break;
+            }
+            assertFalse(reflections.get(SubTypes.get(second.className(parent))).contains(second.className(leaf)));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.net.URL;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+public class SegmentCacheTest {
+
+    @Test
+    public void shareCachedJarSegments(@TempDir File temp) throws Exception {
+        SyntheticClasspath library = new SyntheticClasspath().classes(200).annotationDensity(0.5).seed(1);
+        SyntheticClasspath plugin = new SyntheticClasspath().classes(50).annotationDensity(0.5).seed(2);
+        URL jar = library.writeJar(new File(temp, "library.jar"));
+        URL dir = plugin.writeDirectory(new File(temp, "plugin"));
+        SegmentCache cache = new SegmentCache();
+
+        Reflections first = new Reflections(new ConfigurationBuilder().addUrls(jar).setSegmentCache(cache));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.size());
+
+        Set<String> notified = new HashSet<>();
+        Reflections second = new Reflections(new ConfigurationBuilder().addUrls(jar, dir).setSegmentCache(cache)
+            .onSubTypeOf(library.className(0), notified::add));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.size()); // directories are not cached
+
+        assertEquals(library.annotatedWith(0), first.get(TypesAnnotated.with(library.annotationName(0))));
+        assertEquals(first.get(SubTypes.of(library.className(0))), second.get(SubTypes.of(library.className(0))));
+        assertEquals(first.get(SubTypes.get(library.className(0))), notified); // cached entries are replayed to listeners
+        Set<String> annotated = library.annotatedWith(0);
+        annotated.addAll(plugin.annotatedWith(0));
+        assertEquals(annotated, second.get(TypesAnnotated.with(library.annotationName(0))));
+
+        String key = library.className(library.treeSize() + 1); // a key found only in the jar, not in the smaller plugin
+        assertSame(first.getStore().get(SubTypes.index()).get(key), second.getStore().get(SubTypes.index()).get(key));
+        assertThrows(UnsupportedOperationException.class, () -> second.getStore().get(SubTypes.index()).get(key).add("my.Type")); // cached segments are frozen
+        assertFalse(first.get(SubTypes.get(key)).contains("my.Type"));
+    }
+}
@@ -0,0 +1,53 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.reflections.scanners.Scanners;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.Resources;
+import static org.reflections.scanners.Scanners.SubTypes;
+
+public class StoreSnapshotTest {
+
+    @Test
+    public void mergePublishesNewStore() throws Exception {
+        Reflections reflections = new Reflections(TestModel.class, Scanners.SubTypes, Scanners.Resources);
+        Store before = reflections.getStore();
+        Map<String, Map<String, Set<String>>> copy = new HashMap<>();
+        before.forEach((index, map) -> {
+            copy.put(index, new HashMap<>());
+            map.forEach((key, values) -> copy.get(index).put(key, new HashSet<>(values)));
+        });
+
+        Store other = new Store();
+        other.put(SubTypes.index(), new HashMap<>());
+        other.get(SubTypes.index()).put(TestModel.C1.class.getName(), new HashSet<>(Collections.singleton("my.C")));
+        reflections.merge(new Reflections(other));
+
+        assertEquals(copy, before);
+        assertTrue(reflections.get(SubTypes.of(TestModel.C1.class)).contains("my.C"));
+        assertSame(before.get(Resources.index()), reflections.getStore().get(Resources.index()));
+
+        // queries are not affected by concurrent merges
+        AtomicBoolean merging = new AtomicBoolean(true);
+        CompletableFuture<Void> queries = CompletableFuture.runAsync(() -> {
+            while (merging.get()) reflections.get(SubTypes.of(TestModel.C1.class));
+        });
+        for (int i = 0; i < 200; i++) {
+            other.get(SubTypes.index()).put(TestModel.C1.class.getName(), new HashSet<>(Collections.singleton("my.C" + i)));
+            reflections.merge(new Reflections(other));
+        }
+        merging.set(false);
+        queries.get(10, TimeUnit.SECONDS);
+        assertEquals(201, reflections.get(SubTypes.with(TestModel.C1.class)).stream().filter(name -> name.startsWith("my.C")).count());
+    }
+}
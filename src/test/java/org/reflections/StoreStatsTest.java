@@ -0,0 +1,38 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.reflections.scanners.Scanners;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.SubTypes;
+
+public class StoreStatsTest {
+
+    @Test
+    public void indexStats() throws Exception {
+        Reflections reflections = new Reflections(TestModel.class, Scanners.values());
+        StoreStats stats = reflections.getStore().stats();
+
+        StoreStats.IndexStats subTypes = stats.getIndex(SubTypes.index());
+        Map<String, Set<String>> subTypesMap = reflections.getStore().get(SubTypes.index());
+        assertEquals(subTypesMap.size(), subTypes.getKeys());
+        assertEquals(subTypesMap.values().stream().mapToLong(Set::size).sum(), subTypes.getValues());
+        assertEquals(subTypes.getKeys(), Arrays.stream(subTypes.getHistogram()).sum());
+        assertEquals(subTypesMap.values().stream().mapToInt(Set::size).max().getAsInt(), subTypes.getMaxCardinality());
+        assertTrue(subTypes.getStringBytes() > 0 && subTypes.getEstimatedHeapBytes() > subTypes.getStringBytes());
+        assertEquals(reflections.getStore().keySet(), stats.getIndexes().keySet());
+        assertTrue(stats.getEstimatedHeapBytes() > stats.getIndexes().values().stream().mapToLong(StoreStats.IndexStats::getEstimatedHeapBytes).sum());
+
+        javax.management.ObjectName name = reflections.registerMBean("test");
+        try {
+            assertEquals(stats.getValues(), ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Values"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.reflections;
+
+import javassist.bytecode.AccessFlag;
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.Bytecode;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.ConstPool;
+import javassist.bytecode.MethodInfo;
+import javassist.bytecode.Opcode;
+import javassist.bytecode.annotation.Annotation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * synthetic classpath generator for scale testing and benchmarks, writing jars or directories of generated classes and resources
+ * <pre>{@code URL url = new SyntheticClasspath()
+ *   .classes(100_000).depth(5).fanOut(4)
+ *   .annotationDensity(0.1).methods(5).resources(1000)
+ *   .writeJar(file)}</pre>
+ * <p>classes {@code synthetic.p<n / packageSize>.C<n>} form trees of the given {@code depth} levels, where each class has {@code fanOut} sub classes,
+ * so that class n extends class {@link #parent(int)}. each class implements the interface {@link #interfaceOf(int)}, one of {@code interfaces} {@code synthetic.I<n % interfaces>},
+ * is annotated with {@link #annotationOf(int)}, one of {@code annotations} annotations {@code synthetic.A<n % annotations>}, by {@code annotationDensity} probability,
+ * and has {@code methods} methods, each annotated with {@code synthetic.M} by the same probability.
+ * resources are {@code synthetic/r<n>.properties} files.
+ * <p>generation is deterministic given the {@link #seed(long)}, and the expected counts are available by {@link #isAnnotated(int)}, {@link #annotatedMethods(int)} and {@link #treeSize()}.
+ */
+public class SyntheticClasspath {
+    public static final String PACKAGE = "synthetic";
+    public static final String METHOD_ANNOTATION = PACKAGE + ".M";
+
+    private int classes = 1000;
+    private int depth = 4;
+    private int fanOut = 4;
+    private int interfaces = 16;
+    private int annotations = 4;
+    private double annotationDensity = 0.1;
+    private int methods = 3;
+    private int resources = 0;
+    private int packageSize = 1000;
+    private long seed = 0;
+
+    public SyntheticClasspath classes(int classes) { this.classes = classes; return this; }
+    public SyntheticClasspath depth(int depth) { this.depth = depth; return this; }
+    public SyntheticClasspath fanOut(int fanOut) { this.fanOut = fanOut; return this; }
+    public SyntheticClasspath interfaces(int interfaces) { this.interfaces = interfaces; return this; }
+    public SyntheticClasspath annotations(int annotations) { this.annotations = annotations; return this; }
+    public SyntheticClasspath annotationDensity(double annotationDensity) { this.annotationDensity = annotationDensity; return this; }
+    public SyntheticClasspath methods(int methods) { this.methods = methods; return this; }
+    public SyntheticClasspath resources(int resources) { this.resources = resources; return this; }
+    public SyntheticClasspath packageSize(int packageSize) { this.packageSize = packageSize; return this; }
+    public SyntheticClasspath seed(long seed) { this.seed = seed; return this; }
+
+    public int getClasses() { return classes; }
+    public int getMethods() { return methods; }
+    public int getResources() { return resources; }
+
+    /** fully qualified name of class {@code n} */
+    public String className(int n) {
+        return PACKAGE + ".p" + (n / packageSize) + ".C" + n;
+    }
+
+    public String interfaceName(int i) {
+        return PACKAGE + ".I" + i;
+    }
+
+    public String annotationName(int i) {
+        return PACKAGE + ".A" + i;
+    }
+
+    public String resourceName(int n) {
+        return PACKAGE + "/r" + n + ".properties";
+    }
+
+    /** number of classes in a full tree, the root and all its transitive sub classes */
+    public int treeSize() {
+        int size = 0;
+        for (int level = 0, width = 1; level < depth; level++, width *= fanOut) size += width;
+        return size;
+    }
+
+    /** the super class index of class {@code n}, or -1 if it is a tree root extending {@code Object} */
+    public int parent(int n) {
+        int tree = n / treeSize(), index = n % treeSize();
+        return index == 0 ? -1 : tree * treeSize() + (index - 1) / fanOut;
+    }
+
+    /** the interface index implemented by class {@code n} */
+    public int interfaceOf(int n) {
+        return n % interfaces;
+    }
+
+    /** the annotation index of class {@code n}, see {@link #isAnnotated(int)} */
+    public int annotationOf(int n) {
+        return n % annotations;
+    }
+
+    /** true if class {@code n} is annotated, by the {@code annotationDensity} probability */
+    public boolean isAnnotated(int n) {
+        return random(n, -1) < annotationDensity;
+    }
+
+    /** number of methods of class {@code n} annotated with {@link #METHOD_ANNOTATION} */
+    public int annotatedMethods(int n) {
+        int count = 0;
+        for (int m = 0; m < methods; m++) if (random(n, m) < annotationDensity) count++;
+        return count;
+    }
+
+    /** names of the classes annotated with annotation {@code i}, see {@link #annotationOf(int)} */
+    public Set<String> annotatedWith(int i) {
+        Set<String> names = new HashSet<>();
+        for (int n = 0; n < classes; n++) if (isAnnotated(n) && annotationOf(n) == i) names.add(className(n));
+        return names;
+    }
+
+    private double random(int n, int m) {
+        return new SplittableRandom(seed * 31 * 31 + n * 31L + m).nextDouble();
+    }
+
+    /** writes the classpath into a new jar {@code file} and returns its url */
+    public URL writeJar(File file) throws Exception {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(file.toPath()))) {
+            generate((name, bytes) -> {
+                out.putNextEntry(new JarEntry(name));
+                out.write(bytes);
+                out.closeEntry();
+            });
+        }
+        return url(file);
+    }
+
+    /** writes the classpath into the given {@code directory} and returns its url */
+    public URL writeDirectory(File directory) throws Exception {
+        Path root = directory.toPath();
+        generate((name, bytes) -> {
+            Path path = root.resolve(name);
+            Files.createDirectories(path.getParent());
+            try (OutputStream out = Files.newOutputStream(path)) {
+                out.write(bytes);
+            }
+        });
+        return url(directory);
+    }
+
+    private void generate(Output output) throws Exception {
+        write(output, annotationType(METHOD_ANNOTATION));
+        for (int i = 0; i < annotations; i++) write(output, annotationType(annotationName(i)));
+        for (int i = 0; i < interfaces; i++) {
+            ClassFile type = new ClassFile(true, interfaceName(i), null);
+            type.setAccessFlags(AccessFlag.PUBLIC | AccessFlag.INTERFACE | AccessFlag.ABSTRACT);
+            write(output, type);
+        }
+
+        for (int n = 0; n < classes; n++) {
+            int parent = parent(n);
+            ClassFile type = new ClassFile(false, className(n), parent == -1 ? null : className(parent));
+            type.setAccessFlags(AccessFlag.PUBLIC | AccessFlag.SUPER);
+            type.setInterfaces(new String[]{interfaceName(interfaceOf(n))});
+            ConstPool constPool = type.getConstPool();
+            if (isAnnotated(n)) {
+                type.addAttribute(annotation(constPool, annotationName(annotationOf(n))));
+            }
+            for (int m = 0; m < methods; m++) {
+                // public int m<m>(int a, String b) { return a + m; }
+                MethodInfo method = new MethodInfo(constPool, "m" + m, "(ILjava/lang/String;)I");
+                method.setAccessFlags(AccessFlag.PUBLIC);
+                Bytecode code = new Bytecode(constPool, 2, 3);
+                code.addIload(1);
+                code.addIconst(m);
+                code.addOpcode(Opcode.IADD);
+                code.addOpcode(Opcode.IRETURN);
+                method.setCodeAttribute(code.toCodeAttribute());
+                if (random(n, m) < annotationDensity) {
+                    method.addAttribute(annotation(constPool, METHOD_ANNOTATION));
+                }
+                type.addMethod(method);
+            }
+            write(output, type);
+        }
+        for (int n = 0; n < resources; n++) {
+            output.write(resourceName(n), ("key" + n + "=value" + n + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static ClassFile annotationType(String name) {
+        ClassFile type = new ClassFile(true, name, null);
+        type.setAccessFlags(AccessFlag.PUBLIC | AccessFlag.INTERFACE | AccessFlag.ABSTRACT | AccessFlag.ANNOTATION);
+        type.setInterfaces(new String[]{"java.lang.annotation.Annotation"});
+        return type;
+    }
+
+    private static AnnotationsAttribute annotation(ConstPool constPool, String annotation) {
+        AnnotationsAttribute attribute = new AnnotationsAttribute(constPool, AnnotationsAttribute.visibleTag);
+        attribute.addAnnotation(new Annotation(annotation, constPool));
+        return attribute;
+    }
+
+    private static void write(Output output, ClassFile type) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        type.write(new DataOutputStream(bytes));
+        output.write(type.getName().replace('.', '/') + ".class", bytes.toByteArray());
+    }
+
+    private static URL url(File file) throws MalformedURLException {
+        return file.toURI().toURL();
+    }
+
+    private interface Output {
+        void write(String name, byte[] bytes) throws IOException;
+    }
+}
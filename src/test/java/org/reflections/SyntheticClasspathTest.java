@@ -0,0 +1,47 @@
+package org.reflections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.net.URL;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.reflections.scanners.Scanners.MethodsAnnotated;
+import static org.reflections.scanners.Scanners.Resources;
+import static org.reflections.scanners.Scanners.SubTypes;
+import static org.reflections.scanners.Scanners.TypesAnnotated;
+
+public class SyntheticClasspathTest {
+
+    @Test
+    public void scanSyntheticJarAndDirectory(@TempDir File temp) throws Exception {
+        SyntheticClasspath classpath = new SyntheticClasspath()
+            .classes(2000).depth(4).fanOut(4).annotationDensity(0.2).methods(3).resources(50).packageSize(500);
+        URL jar = classpath.writeJar(new File(temp, "synthetic.jar"));
+        URL dir = classpath.writeDirectory(new File(temp, "synthetic"));
+
+        for (URL url : new URL[]{jar, dir}) {
+            Reflections reflections = new Reflections(new ConfigurationBuilder()
+                .addUrls(url)
+                .setScanners(SubTypes, TypesAnnotated, MethodsAnnotated, Resources)
+                .setExpandSuperTypes(false));
+
+            assertEquals(classpath.treeSize() - 1, reflections.get(SubTypes.of(classpath.className(0))).size());
+            assertEquals(4, reflections.get(SubTypes.get(classpath.className(classpath.treeSize() + 1))).size());
+
+            Set<String> annotated = IntStream.range(0, classpath.getClasses())
+                .filter(n -> classpath.isAnnotated(n) && classpath.annotationOf(n) == 0)
+                .mapToObj(classpath::className).collect(Collectors.toSet());
+            assertEquals(annotated, reflections.get(TypesAnnotated.with(classpath.annotationName(0))));
+
+            assertEquals(IntStream.range(0, classpath.getClasses()).map(classpath::annotatedMethods).sum(),
+                reflections.get(MethodsAnnotated.with(SyntheticClasspath.METHOD_ANNOTATION)).size());
+            assertEquals(classpath.getResources(), reflections.get(Resources.with(".*\\.properties")).size());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.reflections;
 
 import javassist.bytecode.ClassFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.vfs.SystemDir;
 import org.reflections.vfs.Vfs;
@@ -13,8 +14,11 @@ import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -148,6 +152,23 @@ public class VfsTest {
         }
     }
 
+    @Test
+    public void testPrunedDirectoryWalk(@TempDir File temp) throws Exception {
+        for (String path : Arrays.asList("a/A.class", "a/b/B.class", "c/C.class", "c/d/D.class", "E.class")) {
+            File file = new File(temp, path);
+            assertTrue(file.getParentFile().mkdirs() || file.getParentFile().isDirectory());
+            assertTrue(file.createNewFile());
+        }
+        SystemDir dir = new SystemDir(temp);
+        List<String> visited = new ArrayList<>();
+        Iterable<Vfs.File> files = dir.getFiles(path -> visited.add(path) && !path.startsWith("c/"));
+        assertTrue(visited.isEmpty()); // lazy
+
+        Set<String> paths = StreamSupport.stream(files.spliterator(), false).map(Vfs.File::getRelativePath).collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList("a/A.class", "a/b/B.class", "E.class")), paths);
+        assertFalse(visited.contains("c/d/")); // rejected sub trees are not walked
+    }
+
     private void testVfsDir(Vfs.Dir dir) {
         List<Vfs.File> files = new ArrayList<>();
         for (Vfs.File file : dir.getFiles()) {
@@ -0,0 +1,58 @@
+package org.reflections;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+import org.reflections.util.JfrEvents;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.reflections.scanners.Scanners.SubTypes;
+
+public class JfrEventsTest {
+
+    @Test
+    public void scanEvents(@TempDir Path temp) throws Exception {
+        assertTrue(JfrEvents.class.getProtectionDomain().getCodeSource().getLocation().getPath().endsWith("META-INF/versions/11/"),
+            "expected the versioned JfrEvents");
+        URL url = ClasspathHelper.forClass(TestModel.class);
+        Path file = temp.resolve("scan.jfr");
+
+        Reflections reflections;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.reflections.Scan").withoutThreshold();
+            recording.enable("org.reflections.Merge").withoutThreshold();
+            recording.start();
+            reflections = new Reflections(new ConfigurationBuilder()
+                .setUrls(url)
+                .filterInputsBy(new FilterBuilder().includePattern("org\\.reflections\\.TestModel\\$.*"))
+                .setScanners(SubTypes)
+                .setExpandSuperTypes(false));
+            recording.stop();
+            recording.dump(file);
+        }
+        long values = reflections.getStore().get(SubTypes.index()).values().stream().mapToLong(Set::size).sum();
+        assertTrue(values > 0);
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> scans = events.stream().filter(e -> e.getEventType().getName().equals("org.reflections.Scan")).collect(Collectors.toList());
+        assertEquals(1, scans.size());
+        assertEquals(url.toExternalForm(), scans.get(0).getString("url"));
+        assertEquals(values, scans.get(0).getLong("count"));
+        assertEquals(List.of("Reflections"), scans.get(0).getEventType().getCategoryNames());
+
+        List<RecordedEvent> merges = events.stream().filter(e -> e.getEventType().getName().equals("org.reflections.Merge")).collect(Collectors.toList());
+        assertEquals(1, merges.size());
+        assertEquals(values, merges.get(0).getLong("count"));
+    }
+}